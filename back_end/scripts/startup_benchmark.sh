@@ -0,0 +1,68 @@
+#!/usr/bin/env bash
+# Measures JVM launch -> first successful /health and -> first /parks response.
+#
+# Usage (from back_end/):
+#   ./scripts/startup_benchmark.sh             # default bootJar launch
+#   ./scripts/startup_benchmark.sh faststart   # AppCDS + AOT + faststart profile (run ./gradlew -PfastStart fastStartCds first)
+#
+# RUNS (default 5) controls how many cold starts are averaged.
+set -euo pipefail
+
+BACKEND_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+MODE="${1:-default}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+SEED_PATH="$(cd "$BACKEND_DIR/.." && pwd)/databases"
+
+command -v curl >/dev/null 2>&1 || { echo "curl is required."; exit 1; }
+
+case "$MODE" in
+  default)
+    JAR="$(ls "$BACKEND_DIR"/build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v plain | head -n 1 || true)"
+    [ -n "$JAR" ] || { echo "No boot jar found; run ./gradlew bootJar first."; exit 1; }
+    WORK_DIR="$BACKEND_DIR"
+    LAUNCH=(java -jar "$JAR")
+    ;;
+  faststart)
+    WORK_DIR="$BACKEND_DIR/build/fast-start"
+    [ -f "$WORK_DIR/application.jsa" ] || { echo "No CDS archive found; run ./gradlew -PfastStart fastStartCds first."; exit 1; }
+    LAUNCH=(java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=faststart
+            -jar trail_blazers.jar)
+    ;;
+  *)
+    echo "Unknown mode '$MODE' (expected default or faststart)."; exit 1
+    ;;
+esac
+
+now_ms() { date +%s%3N; }
+
+wait_for() {
+  local url="$1"
+  until curl -fsS -o /dev/null "$url" 2>/dev/null; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "Application exited early."; exit 1; }
+    sleep 0.01
+  done
+}
+
+total_health=0
+total_parks=0
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  (cd "$WORK_DIR" && exec "${LAUNCH[@]}" --server.port="$PORT" --data.seed.base-path="$SEED_PATH" >/dev/null 2>&1) &
+  APP_PID=$!
+
+  wait_for "$BASE_URL/health"
+  health=$(( $(now_ms) - start ))
+  wait_for "$BASE_URL/parks"
+  parks=$(( $(now_ms) - start ))
+
+  kill "$APP_PID" 2>/dev/null || true
+  wait "$APP_PID" 2>/dev/null || true
+
+  echo "run $run: /health ${health} ms, /parks ${parks} ms"
+  total_health=$(( total_health + health ))
+  total_parks=$(( total_parks + parks ))
+done
+
+echo "[$MODE] mean over $RUNS runs: /health $(( total_health / RUNS )) ms, /parks $(( total_parks / RUNS )) ms"
@@ -0,0 +1,91 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread request execution on the /trips endpoints.
+#
+# Usage (from back_end/, after ./gradlew -PjavaVersion=21 bootJar), against a scratch MySQL database:
+#   DB_URL=jdbc:mysql://localhost:3306/trail_blazers_bench DB_USER=... DB_PASS=... \
+#   JAVA=/path/to/jdk-21/bin/java ./scripts/trips_load_benchmark.sh
+#
+# MySQL is required: the embedded H2 driver synchronizes internally and pins carrier threads, so an
+# H2 run measures H2 rather than the thread mode. Pinned-thread traces are counted for each mode.
+#
+# Needs `hey` (https://github.com/rakyll/hey) on the PATH. Tunables:
+#   CONCURRENCY (default 1000)  concurrent clients
+#   DURATION    (default 30s)   length of each measured phase
+#   TRIPS       (default 50)    trips created for each mode's benchmark user (removed afterwards)
+#   DB_POOL_SIZE                passed through to the Hikari pool (application.properties)
+set -euo pipefail
+
+BACKEND_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+JAVA="${JAVA:-java}"
+CONCURRENCY="${CONCURRENCY:-1000}"
+DURATION="${DURATION:-30s}"
+TRIPS="${TRIPS:-50}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+SEED_PATH="$(cd "$BACKEND_DIR/.." && pwd)/databases"
+
+case "${DB_URL:-}" in
+  jdbc:mysql:*) ;;
+  *) echo "DB_URL must point at MySQL (jdbc:mysql://...); the default in-memory H2 pins virtual threads."; exit 1 ;;
+esac
+export DB_DRIVER="${DB_DRIVER:-com.mysql.cj.jdbc.Driver}"
+export SPRING_JPA_DATABASE="${SPRING_JPA_DATABASE:-mysql}"
+export SPRING_JPA_DIALECT="${SPRING_JPA_DIALECT:-org.hibernate.dialect.MySQLDialect}"
+
+command -v hey >/dev/null 2>&1 || { echo "hey is required (go install github.com/rakyll/hey@latest)."; exit 1; }
+command -v curl >/dev/null 2>&1 || { echo "curl is required."; exit 1; }
+
+JAR="$(ls "$BACKEND_DIR"/build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v plain | head -n 1 || true)"
+[ -n "$JAR" ] || { echo "No boot jar found; run ./gradlew -PjavaVersion=21 bootJar first."; exit 1; }
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  # Each mode gets a fresh user so both read the same TRIPS trips, whatever earlier runs left behind.
+  local user_name="load-bench-$mode-$$"
+  echo "=== $mode threads (spring.threads.virtual.enabled=$virtual, concurrency $CONCURRENCY) ==="
+
+  VIRTUAL_THREADS_ENABLED="$virtual" SPRING_JPA_SHOW_SQL=false "$JAVA" -Djdk.tracePinnedThreads=short \
+    -jar "$JAR" --server.port="$PORT" --data.seed.base-path="$SEED_PATH" \
+    >"$BACKEND_DIR/build/load-bench-$mode.log" 2>&1 &
+  local pid=$!
+
+  until curl -fsS -o /dev/null "$BASE_URL/health" 2>/dev/null; do
+    kill -0 "$pid" 2>/dev/null || { echo "Backend exited early; see build/load-bench-$mode.log"; exit 1; }
+    sleep 0.2
+  done
+
+  for i in $(seq 1 "$TRIPS"); do
+    curl -fsS -o /dev/null -H 'Content-Type: application/json' -X POST "$BASE_URL/trips/add" \
+      -d "{\"tripName\":\"Trip $i\",\"location\":\"Ha Ha Tonka State Park\",\"date\":\"2025-06-01\",\"notes\":\"bench\",\"plants\":[{\"id\":1},{\"id\":2}],\"fauna\":[{\"id\":1}],\"userName\":\"$user_name\"}"
+  done
+
+  echo "--- GET /trips/all/$user_name"
+  hey -z "$DURATION" -c "$CONCURRENCY" "$BASE_URL/trips/all/$user_name" | sed -n '/Summary:/,/Requests\/sec/p;/Latency distribution:/,/99%/p;/Status code distribution:/,$p'
+
+  # Update one of the benchmark user's own trips; naming the owner keeps other users' trips untouched.
+  local trip_id
+  trip_id=$(curl -fsS "$BASE_URL/trips/all/$user_name?view=slim" | grep -o '"id":[0-9]*' | head -n 1 | cut -d: -f2)
+  echo "--- PUT /trips/update/$trip_id"
+  hey -z "$DURATION" -c "$CONCURRENCY" -m PUT -T 'application/json' \
+    -d "{\"tripName\":\"Trip 1\",\"location\":\"Ha Ha Tonka State Park\",\"date\":\"2025-06-01\",\"notes\":\"bench\",\"plants\":[{\"id\":1}],\"fauna\":[{\"id\":1}],\"userName\":\"$user_name\"}" \
+    "$BASE_URL/trips/update/$trip_id" | sed -n '/Summary:/,/Requests\/sec/p;/Latency distribution:/,/99%/p;/Status code distribution:/,$p'
+
+  local pinned
+  pinned=$(grep -c 'onPinned\|<== monitors' "$BACKEND_DIR/build/load-bench-$mode.log" || true)
+  echo "--- pinned-thread stack traces logged: $pinned"
+  if [ "$virtual" = true ] && [ "$pinned" -gt 0 ]; then
+    echo "    virtual-thread results include pinning; see build/load-bench-$mode.log"
+  fi
+
+  local trip_ids
+  trip_ids=$(curl -fsS "$BASE_URL/trips/all/$user_name?view=slim" | grep -o '"id":[0-9]*' | cut -d: -f2 || true)
+  for id in $trip_ids; do
+    curl -fsS -o /dev/null -X DELETE "$BASE_URL/trips/delete/$id?userName=$user_name" || true
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
@@ -0,0 +1,23 @@
+package com.liftoff.trail_blazers.config;
+
+import com.liftoff.trail_blazers.data.CatalogCache;
+import com.liftoff.trail_blazers.data.FaunaRepository;
+import com.liftoff.trail_blazers.data.PlantsRepository;
+import com.liftoff.trail_blazers.model.Fauna;
+import com.liftoff.trail_blazers.model.Plants;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CatalogCacheConfig {
+
+    @Bean
+    public CatalogCache<Fauna> faunaCache(FaunaRepository faunaRepository) {
+        return new CatalogCache<>(faunaRepository);
+    }
+
+    @Bean
+    public CatalogCache<Plants> plantsCache(PlantsRepository plantsRepository) {
+        return new CatalogCache<>(plantsRepository);
+    }
+}
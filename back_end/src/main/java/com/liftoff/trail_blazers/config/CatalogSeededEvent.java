@@ -0,0 +1,8 @@
+package com.liftoff.trail_blazers.config;
+
+/**
+ * Published by {@link DataSeeder} once a seeding pass has finished, whether or not it inserted
+ * anything, so listeners can rely on the catalog tables being in their final state.
+ */
+public class CatalogSeededEvent {
+}
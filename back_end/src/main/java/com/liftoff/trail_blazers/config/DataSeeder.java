@@ -1,18 +1,33 @@
 package com.liftoff.trail_blazers.config;
 
+import com.liftoff.trail_blazers.data.CatalogCache;
 import com.liftoff.trail_blazers.data.FaunaRepository;
 import com.liftoff.trail_blazers.data.GeolocationsRepository;
 import com.liftoff.trail_blazers.data.PlantsRepository;
+import com.liftoff.trail_blazers.data.TrailheadsRepository;
+import com.liftoff.trail_blazers.geo.ParkDistanceMatrix;
+import com.liftoff.trail_blazers.geo.ParkLayer;
+import com.liftoff.trail_blazers.geo.ParkNameIndex;
+import com.liftoff.trail_blazers.geo.TrailheadCsv;
 import com.liftoff.trail_blazers.model.Fauna;
 import com.liftoff.trail_blazers.model.Geolocations;
 import com.liftoff.trail_blazers.model.Plants;
+import com.liftoff.trail_blazers.model.Trailheads;
+import com.liftoff.trail_blazers.replication.ReplicaReads;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -23,16 +38,28 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Component
 public class DataSeeder implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
 
     private final FaunaRepository faunaRepository;
     private final PlantsRepository plantsRepository;
     private final GeolocationsRepository geolocationsRepository;
+    private final TrailheadsRepository trailheadsRepository;
+    private final CatalogCache<Fauna> faunaCache;
+    private final CatalogCache<Plants> plantsCache;
+    private final ParkLayer parkLayer;
+    private final ParkDistanceMatrix parkDistanceMatrix;
+    private final ParkNameIndex parkNameIndex;
+    private final Executor seedExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${data.seed.enabled:true}")
     private boolean seedEnabled;
@@ -43,12 +70,31 @@ public class DataSeeder implements CommandLineRunner {
     @Value("${data.seed.base-path:../databases}")
     private String seedBasePath;
 
+    @Value("${data.seed.async:false}")
+    private boolean seedAsync;
+
     public DataSeeder(FaunaRepository faunaRepository,
                       PlantsRepository plantsRepository,
-                      GeolocationsRepository geolocationsRepository) {
+                      GeolocationsRepository geolocationsRepository,
+                      TrailheadsRepository trailheadsRepository,
+                      CatalogCache<Fauna> faunaCache,
+                      CatalogCache<Plants> plantsCache,
+                      ParkLayer parkLayer,
+                      ParkDistanceMatrix parkDistanceMatrix,
+                      ParkNameIndex parkNameIndex,
+                      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor seedExecutor,
+                      ApplicationEventPublisher eventPublisher) {
         this.faunaRepository = faunaRepository;
         this.plantsRepository = plantsRepository;
         this.geolocationsRepository = geolocationsRepository;
+        this.trailheadsRepository = trailheadsRepository;
+        this.faunaCache = faunaCache;
+        this.plantsCache = plantsCache;
+        this.parkLayer = parkLayer;
+        this.parkDistanceMatrix = parkDistanceMatrix;
+        this.parkNameIndex = parkNameIndex;
+        this.seedExecutor = seedExecutor;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -58,12 +104,26 @@ public class DataSeeder implements CommandLineRunner {
             return;
         }
 
+        // A refresh wipes the tables first, so only hand seeding to the background when the existing
+        // rows stay readable while it runs. The "already seeded?" counts must come from the primary,
+        // not from a replica that may still be empty.
+        if (seedAsync && !refreshData) {
+            log.info("Seeding in the background (data.seed.async=true)");
+            seedExecutor.execute(() -> ReplicaReads.onPrimary(this::seedAll));
+            return;
+        }
+
+        ReplicaReads.onPrimary(this::seedAll);
+    }
+
+    private void seedAll() {
         Path basePath = Paths.get(seedBasePath).toAbsolutePath().normalize();
         log.info("Seeding database from CSV files under: {}", basePath);
 
         int faunaInserted = 0;
         int plantsInserted = 0;
         int parksInserted = 0;
+        int trailheadsInserted = 0;
 
         try {
             faunaInserted = seedFauna(basePath.resolve("animal_information/animals_mo_state_parks.csv"));
@@ -78,12 +138,32 @@ public class DataSeeder implements CommandLineRunner {
         }
 
         try {
-            parksInserted = seedParks(basePath.resolve("park_locations/MO_State_Park.csv"));
+            parksInserted = seedParks(basePath.resolve("park_locations/geolocation_MO_parks.json"),
+                    basePath.resolve("park_locations/MO_State_Park.csv"));
         } catch (Exception e) {
             log.error("Failed to seed parks; continuing startup.", e);
         }
 
-        log.info("Seeded data - fauna: {}, plants: {}, parks: {}", faunaInserted, plantsInserted, parksInserted);
+        try {
+            trailheadsInserted = seedTrailheads(basePath.resolve("park_locations/MO_State_Park_and_Historic_Sites_Trails.csv"));
+        } catch (Exception e) {
+            log.error("Failed to seed trailheads; continuing startup.", e);
+        }
+
+        // Reseeding replaces the rows (and their ids) behind the batch-lookup caches and the park layer.
+        faunaCache.clear();
+        plantsCache.clear();
+        parkLayer.invalidate();
+        parkNameIndex.invalidate();
+        try {
+            parkDistanceMatrix.rebuild();
+        } catch (Exception e) {
+            log.error("Failed to build the park distance matrix; it will be built on first use.", e);
+        }
+
+        log.info("Seeded data - fauna: {}, plants: {}, parks: {}, trailheads: {}",
+                faunaInserted, plantsInserted, parksInserted, trailheadsInserted);
+        eventPublisher.publishEvent(new CatalogSeededEvent());
     }
 
     private int seedFauna(Path csvPath) throws IOException {
@@ -136,14 +216,110 @@ public class DataSeeder implements CommandLineRunner {
         return plantBatch.size();
     }
 
-    private int seedParks(Path csvPath) throws IOException {
+    private int seedParks(Path geoJsonPath, Path csvPath) throws IOException {
         if (!shouldSeed(geolocationsRepository.count())) {
             log.info("Geolocations already present; skipping park seeding.");
+            backfillParkColumns(geoJsonPath);
             return 0;
         }
 
+        // Trailheads reference parks, so they have to go first on a refresh.
+        deleteExistingIfNeeded(trailheadsRepository);
         deleteExistingIfNeeded(geolocationsRepository);
 
+        // The GeoJSON carries REGION, GIS_ACRES and PARK_ID on top of the CSV columns.
+        List<Geolocations> parks = Files.exists(geoJsonPath) ? parseParksGeoJson(geoJsonPath) : parseParksCsv(csvPath);
+
+        geolocationsRepository.saveAll(parks);
+        return parks.size();
+    }
+
+    // Parks seeded from the CSV (before the GeoJSON import, or without the file) have no PARK_ID, REGION
+    // or GIS_ACRES; fill them in by name so the map layer carries them without a full reseed.
+    private void backfillParkColumns(Path geoJsonPath) throws IOException {
+        if (!Files.exists(geoJsonPath)) {
+            return;
+        }
+        List<Geolocations> incomplete = geolocationsRepository.findAll().stream()
+                .filter(park -> park.getPark_id() == null || park.getRegion() == null || park.getGis_acres() == null)
+                .toList();
+        if (incomplete.isEmpty()) {
+            return;
+        }
+
+        Map<String, Geolocations> byName = new HashMap<>();
+        for (Geolocations park : parseParksGeoJson(geoJsonPath)) {
+            byName.putIfAbsent(park.getName(), park);
+        }
+        List<Geolocations> updated = new ArrayList<>();
+        for (Geolocations park : incomplete) {
+            Geolocations source = byName.get(park.getName());
+            if (source == null) {
+                continue;
+            }
+            boolean changed = false;
+            if (park.getPark_id() == null && source.getPark_id() != null) {
+                park.setPark_id(source.getPark_id());
+                changed = true;
+            }
+            if (park.getRegion() == null && source.getRegion() != null) {
+                park.setRegion(source.getRegion());
+                changed = true;
+            }
+            if (park.getGis_acres() == null && source.getGis_acres() != null) {
+                park.setGis_acres(source.getGis_acres());
+                changed = true;
+            }
+            if (changed) {
+                updated.add(park);
+            }
+        }
+        if (!updated.isEmpty()) {
+            geolocationsRepository.saveAll(updated);
+            log.info("Backfilled PARK_ID, REGION and GIS_ACRES on {} parks from {}", updated.size(), geoJsonPath.getFileName());
+        }
+    }
+
+    private int seedTrailheads(Path csvPath) throws IOException {
+        if (!shouldSeed(trailheadsRepository.count())) {
+            log.info("Trailheads already present; skipping trailhead seeding.");
+            return 0;
+        }
+        if (!Files.exists(csvPath)) {
+            throw new IOException("CSV file not found: " + csvPath);
+        }
+
+        deleteExistingIfNeeded(trailheadsRepository);
+
+        TrailheadCsv.Batch batch;
+        try (Reader reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            batch = TrailheadCsv.read(reader);
+        }
+        if (batch.skipped() > 0) {
+            log.warn("Skipped {} unreadable trailhead rows in {}", batch.skipped(), csvPath);
+        }
+
+        Map<String, Geolocations> parksByName = new HashMap<>();
+        for (Geolocations park : geolocationsRepository.findAll()) {
+            parksByName.put(park.getName(), park);
+        }
+
+        List<Trailheads> trailheads = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Trailheads trailhead = new Trailheads();
+            trailhead.setName(batch.name(i));
+            trailhead.setLatitude(batch.latitude(i));
+            trailhead.setLongitude(batch.longitude(i));
+            trailhead.setPark_type(batch.parkType(i));
+            trailhead.setPark(parksByName.get(batch.name(i)));
+            trailheads.add(trailhead);
+        }
+
+        trailheadsRepository.saveAll(trailheads);
+        return trailheads.size();
+    }
+
+    private List<Geolocations> parseParksCsv(Path csvPath) throws IOException {
         List<Geolocations> parks = new ArrayList<>();
         for (CSVRecord record : parseCsv(csvPath)) {
             Geolocations geolocation = new Geolocations();
@@ -155,9 +331,64 @@ public class DataSeeder implements CommandLineRunner {
             geolocation.setShort_name(valueOrNull(record, "short_name"));
             parks.add(geolocation);
         }
+        return parks;
+    }
 
-        geolocationsRepository.saveAll(parks);
-        return parks.size();
+    // Streams the FeatureCollection and binds one feature at a time instead of reading the whole tree.
+    private List<Geolocations> parseParksGeoJson(Path geoJsonPath) throws IOException {
+        List<Geolocations> parks = new ArrayList<>();
+        try (JsonParser parser = JSON.getFactory().createParser(geoJsonPath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a GeoJSON FeatureCollection: " + geoJsonPath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (!"features".equals(field) || parser.currentToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    JsonNode feature = JSON.readTree(parser);
+                    Geolocations geolocation = toGeolocation(feature);
+                    if (geolocation != null) {
+                        parks.add(geolocation);
+                    }
+                }
+            }
+        }
+        return parks;
+    }
+
+    private Geolocations toGeolocation(JsonNode feature) {
+        JsonNode properties = feature.path("properties");
+        JsonNode geometry = feature.path("geometry");
+        JsonNode coordinates = geometry.path("coordinates");
+        if (!"Point".equals(geometry.path("type").asText()) || coordinates.size() < 2) {
+            log.warn("Skipping park feature without point geometry: {}", properties.path("LOC_NAME").asText());
+            return null;
+        }
+
+        Geolocations geolocation = new Geolocations();
+        geolocation.setName(textOrNull(properties, "LOC_NAME"));
+        geolocation.setLongitude(coordinates.get(0).asDouble());
+        geolocation.setLatitude(coordinates.get(1).asDouble());
+        geolocation.setPark_type(textOrNull(properties, "PARK_TYPE"));
+        geolocation.setUrl(textOrNull(properties, "URL"));
+        geolocation.setShort_name(textOrNull(properties, "SHORT_NAME"));
+        geolocation.setRegion(textOrNull(properties, "REGION"));
+        geolocation.setPark_id(properties.hasNonNull("PARK_ID") ? properties.get("PARK_ID").asInt() : null);
+        geolocation.setGis_acres(properties.hasNonNull("GIS_ACRES") ? properties.get("GIS_ACRES").asDouble() : null);
+        return geolocation;
+    }
+
+    private String textOrNull(JsonNode node, String fieldName) {
+        JsonNode value = node.get(fieldName);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
     }
 
     private Iterable<CSVRecord> parseCsv(Path csvPath) throws IOException {
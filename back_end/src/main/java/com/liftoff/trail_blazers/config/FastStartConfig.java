@@ -0,0 +1,21 @@
+package com.liftoff.trail_blazers.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("faststart")
+public class FastStartConfig {
+
+    // Everything else stays lazy; the connection pool and JPA are needed by the first /parks request,
+    // so paying for them during startup keeps that request fast.
+    @Bean
+    static LazyInitializationExcludeFilter eagerDataAccessBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+}
@@ -1,10 +1,12 @@
 package com.liftoff.trail_blazers.controllers;
 
+import com.liftoff.trail_blazers.data.CatalogCache;
 import com.liftoff.trail_blazers.model.Fauna;
 import com.liftoff.trail_blazers.data.FaunaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -15,9 +17,14 @@ public class FaunaListController {
 
     @Autowired
     private FaunaRepository faunaRepository;
+    @Autowired
+    private CatalogCache<Fauna> faunaCache;
 
     @GetMapping("/animals")
-    public List<Fauna> getAllFauna() {
+    public List<Fauna> getAllFauna(@RequestParam(required = false) List<Integer> ids) {
+        if (ids != null) {
+            return faunaCache.findAllById(ids);
+        }
         return faunaRepository.findAll();
     }
 
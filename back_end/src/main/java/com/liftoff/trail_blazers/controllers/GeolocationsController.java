@@ -1,25 +1,162 @@
 package com.liftoff.trail_blazers.controllers;
 
 import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.geo.DistanceMatrix;
+import com.liftoff.trail_blazers.geo.ItineraryOptimizer;
+import com.liftoff.trail_blazers.geo.ParkDistanceMatrix;
+import com.liftoff.trail_blazers.geo.ParkLayer;
+import com.liftoff.trail_blazers.geo.ParkNameIndex;
 import com.liftoff.trail_blazers.model.Geolocations;
+import com.liftoff.trail_blazers.model.dto.ItineraryDTO;
+import com.liftoff.trail_blazers.model.dto.ParkSuggestionDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @CrossOrigin("http://localhost:3000")
 public class GeolocationsController {
 
+    private static final MediaType GEO_JSON = MediaType.parseMediaType("application/geo+json");
+    private static final MediaType VECTOR_TILE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+    private static final CacheControl LAYER_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    private static final int MAX_ITINERARY_STOPS = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+
     @Autowired
     private GeolocationsRepository geolocationsRepository;
+    @Autowired
+    private ParkLayer parkLayer;
+    @Autowired
+    private ParkDistanceMatrix parkDistanceMatrix;
+    @Autowired
+    private ParkNameIndex parkNameIndex;
 
     @GetMapping("/parks")
     List<Geolocations> displayAllParks(){
         return geolocationsRepository.findAll();
     }
 
+    @GetMapping("/parks.geojson")
+    ResponseEntity<byte[]> displayParksGeoJson() {
+        return ResponseEntity.ok()
+                .contentType(GEO_JSON)
+                .cacheControl(LAYER_CACHE)
+                .body(parkLayer.featureCollection());
+    }
+
+    @GetMapping("/parks/tiles/{z}/{x}/{y}")
+    ResponseEntity<byte[]> displayParkTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        if (z < 0 || z > ParkLayer.MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            return ResponseEntity.notFound().build();
+        }
+        byte[] tile = parkLayer.tile(z, x, y);
+        if (tile.length == 0) {
+            return ResponseEntity.noContent().cacheControl(LAYER_CACHE).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(VECTOR_TILE)
+                .cacheControl(LAYER_CACHE)
+                .body(tile);
+    }
+
+    // Type-ahead for park names; lat/lon (both or neither) bias the ranking towards nearby parks.
+    @GetMapping("/parks/suggest")
+    List<ParkSuggestionDTO> displayParkSuggestions(@RequestParam String prefix,
+                                                   @RequestParam(required = false) Double lat,
+                                                   @RequestParam(required = false) Double lon,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        if ((lat == null) != (lon == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat and lon go together");
+        }
+        if (lat != null && !isLatLon(lat, lon)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat,lon must be a point on the globe");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return parkNameIndex.suggest(prefix, lat == null ? Double.NaN : lat, lon == null ? Double.NaN : lon, limit)
+                .stream()
+                .map(ParkSuggestionDTO::new)
+                .toList();
+    }
+
+    @GetMapping("/parks/itinerary")
+    ItineraryDTO displayItinerary(@RequestParam List<Integer> ids, @RequestParam(required = false) String start) {
+        Set<Integer> parkIds = new LinkedHashSet<>(ids);
+        if (parkIds.size() > MAX_ITINERARY_STOPS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_ITINERARY_STOPS + " parks per itinerary");
+        }
+
+        DistanceMatrix matrix = parkDistanceMatrix.current();
+        int[] stops = new int[parkIds.size()];
+        int next = 0;
+        for (Integer parkId : parkIds) {
+            int index = matrix.indexOf(parkId);
+            if (index < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown park id: " + parkId);
+            }
+            stops[next++] = index;
+        }
+
+        double[] startKm = null;
+        if (start != null) {
+            double[] latLon = parseLatLon(start);
+            startKm = new double[stops.length];
+            for (int i = 0; i < stops.length; i++) {
+                startKm[i] = matrix.kmFrom(latLon[0], latLon[1], stops[i]);
+            }
+        }
+
+        ItineraryOptimizer.Itinerary itinerary = ItineraryOptimizer.optimize(matrix, stops, startKm);
+        Map<Integer, Geolocations> parksById = geolocationsRepository.findAllById(parkIds).stream()
+                .collect(Collectors.toMap(Geolocations::getId, Function.identity()));
+
+        ItineraryDTO response = new ItineraryDTO();
+        for (int i = 0; i < itinerary.order().length; i++) {
+            response.getStops().add(parksById.get(matrix.id(itinerary.order()[i])));
+            response.getLegDistancesKm().add(itinerary.legKm()[i]);
+        }
+        response.setTotalDistanceKm(itinerary.totalKm());
+        return response;
+    }
+
+    private static double[] parseLatLon(String value) {
+        String[] parts = value.split(",");
+        try {
+            if (parts.length == 2) {
+                double lat = Double.parseDouble(parts[0].trim());
+                double lon = Double.parseDouble(parts[1].trim());
+                if (isLatLon(lat, lon)) {
+                    return new double[]{lat, lon};
+                }
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "start must be lat,lon");
+    }
+
+    // Double parsing also takes NaN, Infinity and 1e400, none of which is a place.
+    private static boolean isLatLon(double lat, double lon) {
+        return Double.isFinite(lat) && Double.isFinite(lon) && Math.abs(lat) <= 90 && Math.abs(lon) <= 180;
+    }
+
 }
@@ -1,11 +1,13 @@
 package com.liftoff.trail_blazers.controllers;
 
+import com.liftoff.trail_blazers.data.CatalogCache;
 import com.liftoff.trail_blazers.data.PlantsRepository;
 import com.liftoff.trail_blazers.model.Plants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -16,7 +18,14 @@ public class PlantsController {
 
     @Autowired
     private PlantsRepository plantsRepository;
+    @Autowired
+    private CatalogCache<Plants> plantsCache;
 
     @GetMapping("/plants")
-    List<Plants> displayAllPlants() {return plantsRepository.findAll();}
+    List<Plants> displayAllPlants(@RequestParam(required = false) List<Integer> ids) {
+        if (ids != null) {
+            return plantsCache.findAllById(ids);
+        }
+        return plantsRepository.findAll();
+    }
 }
@@ -0,0 +1,51 @@
+package com.liftoff.trail_blazers.controllers;
+
+import com.liftoff.trail_blazers.data.TrailheadsRepository;
+import com.liftoff.trail_blazers.geo.Haversine;
+import com.liftoff.trail_blazers.model.Trailheads;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+
+@RestController
+@CrossOrigin("http://localhost:3000")
+public class TrailheadsController {
+
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    @Autowired
+    private TrailheadsRepository trailheadsRepository;
+
+    @GetMapping("/trailheads")
+    List<Trailheads> displayTrailheads(@RequestParam(required = false) Integer parkId) {
+        if (parkId != null) {
+            return trailheadsRepository.findByParkId(parkId);
+        }
+        return trailheadsRepository.findAll();
+    }
+
+    // The indexed bounding-box query narrows the candidates; exact distance filters and orders them.
+    @GetMapping("/trailheads/near")
+    List<Trailheads> displayTrailheadsNear(@RequestParam double lat,
+                                           @RequestParam double lon,
+                                           @RequestParam(defaultValue = "25") double radiusKm,
+                                           @RequestParam(defaultValue = "20") int limit) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(0.01, Math.cos(Math.toRadians(lat))));
+        return trailheadsRepository.findWithinBox(lat - latDelta, lat + latDelta, lon - lonDelta, lon + lonDelta)
+                .stream()
+                .filter(trailhead -> distanceKm(trailhead, lat, lon) <= radiusKm)
+                .sorted(Comparator.comparingDouble(trailhead -> distanceKm(trailhead, lat, lon)))
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    private static double distanceKm(Trailheads trailhead, double lat, double lon) {
+        return Haversine.distanceKm(lat, lon, trailhead.getLatitude(), trailhead.getLongitude());
+    }
+}
@@ -1,49 +1,132 @@
 package com.liftoff.trail_blazers.controllers;
 
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.data.TripChangeLog;
 import com.liftoff.trail_blazers.data.TripsFPRepository;
 import com.liftoff.trail_blazers.data.TripsRepository;
+import com.liftoff.trail_blazers.model.Geolocations;
+import com.liftoff.trail_blazers.model.TripChangeType;
 import com.liftoff.trail_blazers.model.Trips;
+import com.liftoff.trail_blazers.model.dto.TripChangesDTO;
+import com.liftoff.trail_blazers.model.dto.TripSpeciesId;
 import com.liftoff.trail_blazers.model.dto.TripsFPDTO;
+import com.liftoff.trail_blazers.model.dto.TripsSlimDTO;
+import com.liftoff.trail_blazers.sharding.TripShards;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @RestController
 @CrossOrigin("http://localhost:3000")
 @RequestMapping("/trips")
 public class TripsController {
 
+    static final String SYNC_TOKEN_HEADER = "X-Trips-Sync-Token";
+
     @Autowired
     private TripsRepository tripsRepository;
     @Autowired
     private TripsFPRepository tripsFPRepository;
+    @Autowired
+    private TripChangeLog tripChangeLog;
+    @Autowired
+    private TripShards tripShards;
+    @Autowired
+    private GeolocationsRepository geolocationsRepository;
 
+    // The sync token is read before the trips, so replaying /changes from it can only repeat changes
+    // the list already contains, never skip one.
     @GetMapping("/all/{userName}")
-    public List<Trips> displayAllTrips(@PathVariable String userName) {
-        return tripsRepository.findByUserName(userName);
+    @CrossOrigin(exposedHeaders = SYNC_TOKEN_HEADER)
+    public ResponseEntity<List<?>> displayAllTrips(@PathVariable String userName,
+                                                   @RequestParam(required = false) String view) {
+        return tripShards.read(userName, () -> {
+            long token = tripChangeLog.currentToken(userName);
+            List<?> trips = "slim".equals(view) ? displaySlimTrips(userName) : displayFullTrips(userName);
+            return ResponseEntity.ok()
+                    .header(SYNC_TOKEN_HEADER, Long.toString(token))
+                    .body(trips);
+        });
+    }
+
+    // The body is written after TripShards.read has left the owner's shard, so a lazy load from there would
+    // read the default shard's join tables; load the species while the shard transaction is still open.
+    private List<Trips> displayFullTrips(String userName) {
+        List<Trips> trips = tripsRepository.findByUserName(userName);
+        for (Trips trip : trips) {
+            trip.getPlants().size();
+            trip.getFauna().size();
+        }
+        return trips;
+    }
+
+    // Species ids come straight from the join tables (one query each) so no Plants/Fauna rows are loaded.
+    private List<TripsSlimDTO> displaySlimTrips(String userName) {
+        Map<Integer, TripsSlimDTO> slimTrips = new LinkedHashMap<>();
+        for (Trips trip : tripsRepository.findByUserName(userName)) {
+            slimTrips.put(trip.getId(), new TripsSlimDTO(trip));
+        }
+        // A trip added between the queries has no entry yet; it shows up on the next fetch.
+        for (TripSpeciesId row : tripsRepository.findPlantIdsByUserName(userName)) {
+            TripsSlimDTO slimTrip = slimTrips.get(row.getTripId());
+            if (slimTrip != null) {
+                slimTrip.getPlantIds().add(row.getSpeciesId());
+            }
+        }
+        for (TripSpeciesId row : tripsRepository.findFaunaIdsByUserName(userName)) {
+            TripsSlimDTO slimTrip = slimTrips.get(row.getTripId());
+            if (slimTrip != null) {
+                slimTrip.getFaunaIds().add(row.getSpeciesId());
+            }
+        }
+        return List.copyOf(slimTrips.values());
+    }
+
+    @GetMapping("/changes/{userName}")
+    public TripChangesDTO displayTripChanges(@PathVariable String userName,
+                                             @RequestParam(required = false) Long since) {
+        return tripShards.read(userName, () -> tripChangeLog.changesSince(userName, since));
     }
 
     @PostMapping("/add")
     public String addTrip(@RequestBody TripsFPDTO tripsFP){
+        return tripShards.write(ownerOf(tripsFP.getUserName()), () -> saveNewTrip(tripsFP));
+    }
+
+    private String saveNewTrip(TripsFPDTO tripsFP) {
         Trips trips = new Trips();
         trips.setDate(tripsFP.getDate());
-        trips.setLocation(tripsFP.getLocation());
+        setPark(trips, parkOf(tripsFP.getParkId(), tripsFP.getLocation()));
         trips.setTripName(tripsFP.getTripName());
         trips.setPlants(tripsFP.getPlants());
         trips.setNotes(tripsFP.getNotes());
         trips.setUserName((tripsFP.getUserName()));
         trips.setFauna(tripsFP.getFauna());
         tripsRepository.save(trips);
+        tripChangeLog.record(trips.getUserName(), trips.getId(), TripChangeType.UPSERT);
         return "redirect:/trip";
     }
 
+    // newTrips.userName names the owner; it is required when trips are sharded.
     @PutMapping("/update/{id}")
     public Trips updateTrip(@PathVariable int id, @RequestBody Trips newTrips) {
-       return tripsRepository.findById(id)
+        String userName = ownerOf(newTrips.getUserName());
+        return tripShards.write(userName, () -> tripsRepository.findById(id)
+        .filter(trip -> userName == null || userName.equals(trip.getUserName()))
         .map(trip -> {
             trip.setTripName(newTrips.getTripName());
-            trip.setLocation(newTrips.getLocation());
+            // Trips saved before parks were required keep their location until it is changed.
+            if (newTrips.getParkId() != null || !Objects.equals(newTrips.getLocation(), trip.getLocation())) {
+                setPark(trip, parkOf(newTrips.getParkId(), newTrips.getLocation()));
+            }
             trip.setDate(newTrips.getDate());
             if(newTrips.getNotes().isEmpty()){
                 trip.setNotes(null);
@@ -53,17 +136,44 @@ public class TripsController {
             trip.setPlants(newTrips.getPlants());
             trip.setFauna(newTrips.getFauna());
 
+            tripChangeLog.record(trip.getUserName(), trip.getId(), TripChangeType.UPSERT);
             return tripsRepository.save(trip);
-        }).orElseThrow(()-> new Error("trip not found"));
+        }).orElseThrow(()-> new Error("trip not found")));
     }
 
     @DeleteMapping("/delete/{id}")
-    public String processDeleteTrip(@PathVariable int id){
-        if (!tripsRepository.existsById(id)) {
-            throw new Error("Trip not found.");
+    public String processDeleteTrip(@PathVariable int id, @RequestParam(required = false) String userName){
+        String owner = ownerOf(userName);
+        return tripShards.write(owner, () -> {
+            Trips trip = tripsRepository.findById(id)
+                    .filter(found -> owner == null || owner.equals(found.getUserName()))
+                    .orElseThrow(() -> new Error("Trip not found."));
+            tripsRepository.delete(trip);
+            tripChangeLog.record(trip.getUserName(), id, TripChangeType.DELETE);
+            return "redirect:/all";
+        });
+    }
+
+    // A trip's location is a park: by parkId when given, otherwise by its exact name.
+    private Geolocations parkOf(Integer parkId, String location) {
+        Optional<Geolocations> park = parkId != null
+                ? geolocationsRepository.findById(parkId)
+                : Optional.ofNullable(location).flatMap(geolocationsRepository::findFirstByNameOrderByIdAsc);
+        return park.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "location must be a park from /parks/suggest"));
+    }
+
+    private static void setPark(Trips trip, Geolocations park) {
+        trip.setParkId(park.getId());
+        trip.setLocation(park.getName());
+    }
+
+    // The owner picks the shard, and trip ids are only unique within one, so sharded writes must name it.
+    private String ownerOf(String userName) {
+        if (userName == null && tripShards.isSharded()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userName is required when trips are sharded");
         }
-        tripsRepository.deleteById(id);
-        return "redirect:/all";
+        return userName;
     }
 
 }
@@ -0,0 +1,57 @@
+package com.liftoff.trail_blazers.data;
+
+import com.liftoff.trail_blazers.model.AbstractEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through, per-id cache over a reference-data repository (Fauna, Plants).
+ * Misses for a whole batch are loaded with a single findAllById (one IN query).
+ * The catalog only changes when DataSeeder reloads it, which calls {@link #clear()}.
+ */
+public class CatalogCache<T extends AbstractEntity> {
+
+    private final JpaRepository<T, Integer> repository;
+    private final Map<Integer, T> entries = new ConcurrentHashMap<>();
+
+    public CatalogCache(JpaRepository<T, Integer> repository) {
+        this.repository = repository;
+    }
+
+    /** Returns the rows for the given ids in request order; unknown ids are skipped. */
+    public List<T> findAllById(Collection<Integer> ids) {
+        Set<Integer> requested = new LinkedHashSet<>(ids);
+
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : requested) {
+            if (!entries.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (T loaded : repository.findAllById(missing)) {
+                entries.put(loaded.getId(), loaded);
+            }
+        }
+
+        List<T> result = new ArrayList<>(requested.size());
+        for (Integer id : requested) {
+            T entry = entries.get(id);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
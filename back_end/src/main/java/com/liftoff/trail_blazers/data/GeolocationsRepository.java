@@ -5,8 +5,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GeolocationsRepository extends JpaRepository<Geolocations, Integer> {
 
+    Optional<Geolocations> findFirstByNameOrderByIdAsc(String name);
+
 }
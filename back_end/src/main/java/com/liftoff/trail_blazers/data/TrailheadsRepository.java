@@ -0,0 +1,18 @@
+package com.liftoff.trail_blazers.data;
+
+import com.liftoff.trail_blazers.model.Trailheads;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TrailheadsRepository extends JpaRepository<Trailheads, Integer> {
+
+    @Query("select t from Trailheads t where t.park.id = :parkId")
+    List<Trailheads> findByParkId(int parkId);
+
+    @Query("select t from Trailheads t where t.latitude between :minLat and :maxLat and t.longitude between :minLon and :maxLon")
+    List<Trailheads> findWithinBox(double minLat, double maxLat, double minLon, double maxLon);
+}
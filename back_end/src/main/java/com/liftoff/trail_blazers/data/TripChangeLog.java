@@ -0,0 +1,146 @@
+package com.liftoff.trail_blazers.data;
+
+import com.liftoff.trail_blazers.model.TripChange;
+import com.liftoff.trail_blazers.model.TripChangeType;
+import com.liftoff.trail_blazers.model.TripSyncCursor;
+import com.liftoff.trail_blazers.model.Trips;
+import com.liftoff.trail_blazers.model.dto.TripChangesDTO;
+import com.liftoff.trail_blazers.replication.ReadYourWrites;
+import com.liftoff.trail_blazers.sharding.TripShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of trip upserts and deletes, read back by /trips/changes/{userName}.
+ * {@link #record} must run inside the transaction that modifies the trip.
+ */
+@Component
+public class TripChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(TripChangeLog.class);
+
+    private final TripChangeRepository tripChangeRepository;
+    private final TripSyncCursorRepository tripSyncCursorRepository;
+    private final TripsRepository tripsRepository;
+    private final TripShards tripShards;
+    private final ReadYourWrites readYourWrites;
+
+    @Value("${trips.changes.retention-days:30}")
+    private int retentionDays;
+
+    public TripChangeLog(TripChangeRepository tripChangeRepository,
+                         TripSyncCursorRepository tripSyncCursorRepository,
+                         TripsRepository tripsRepository,
+                         TripShards tripShards,
+                         ReadYourWrites readYourWrites) {
+        this.tripChangeRepository = tripChangeRepository;
+        this.tripSyncCursorRepository = tripSyncCursorRepository;
+        this.tripsRepository = tripsRepository;
+        this.tripShards = tripShards;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String userName, int tripId, TripChangeType type) {
+        TripSyncCursor cursor = lockCursor(userName);
+        long seq = cursor.getLastSeq() + 1;
+        cursor.setLastSeq(seq);
+        tripChangeRepository.save(new TripChange(userName, seq, tripId, type));
+        readYourWrites.recordWrite(userName);
+    }
+
+    @Transactional(readOnly = true)
+    public long currentToken(String userName) {
+        return tripSyncCursorRepository.findByUserName(userName).map(TripSyncCursor::getLastSeq).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public TripChangesDTO changesSince(String userName, Long since) {
+        TripSyncCursor cursor = tripSyncCursorRepository.findByUserName(userName).orElse(null);
+        long head = cursor == null ? 0 : cursor.getLastSeq();
+        long compactedThrough = cursor == null ? 0 : cursor.getCompactedThrough();
+
+        if (since == null || since < compactedThrough || since > head) {
+            TripChangesDTO snapshot = new TripChangesDTO(head, true);
+            snapshot.getUpserts().addAll(initialized(tripsRepository.findByUserName(userName)));
+            return snapshot;
+        }
+
+        // Only the latest change per trip matters to the client.
+        Map<Integer, TripChangeType> latest = new LinkedHashMap<>();
+        long token = since;
+        for (TripChange change : tripChangeRepository.findByUserNameAndSeqGreaterThanOrderBySeq(userName, since)) {
+            latest.remove(change.getTripId());
+            latest.put(change.getTripId(), change.getType());
+            token = change.getSeq();
+        }
+
+        TripChangesDTO delta = new TripChangesDTO(token, false);
+        List<Integer> upsertIds = latest.entrySet().stream()
+                .filter(entry -> entry.getValue() == TripChangeType.UPSERT)
+                .map(Map.Entry::getKey)
+                .toList();
+        delta.getUpserts().addAll(initialized(tripsRepository.findAllById(upsertIds)));
+        latest.forEach((tripId, type) -> {
+            if (type == TripChangeType.DELETE) {
+                delta.getDeletes().add(tripId);
+            }
+        });
+        return delta;
+    }
+
+    /**
+     * Drops log entries older than the retention window and moves each user's compactedThrough
+     * forward, so clients with older tokens are sent a full reset. Each shard is compacted in its
+     * own transaction.
+     */
+    @Scheduled(fixedDelayString = "${trips.changes.compaction-interval-ms:3600000}")
+    public void compact() {
+        tripShards.forEachShard(this::compactShard);
+    }
+
+    private void compactShard() {
+        Date cutoff = new Date(System.currentTimeMillis() - Duration.ofDays(retentionDays).toMillis());
+        int removed = 0;
+        for (TripChangeRepository.CompactionPoint point : tripChangeRepository.findCompactionPoints(cutoff)) {
+            TripSyncCursor cursor = lockCursor(point.getUserName());
+            if (point.getSeq() > cursor.getCompactedThrough()) {
+                cursor.setCompactedThrough(point.getSeq());
+            }
+            removed += tripChangeRepository.deleteThrough(point.getUserName(), point.getSeq());
+        }
+        if (removed > 0) {
+            log.info("Compacted trip change log: removed {} entries older than {} days", removed, retentionDays);
+        }
+    }
+
+    // The cursor must exist before it is locked: on MySQL a locking read of a missing userName takes a
+    // gap lock that blocks every insert of it, including a concurrent first write's. The existence check
+    // is a plain read (no locks, no entity loaded), and the insert runs in the caller's transaction.
+    private TripSyncCursor lockCursor(String userName) {
+        if (!tripSyncCursorRepository.existsByUserName(userName)) {
+            tripSyncCursorRepository.insertIfAbsent(userName);
+        }
+        return tripSyncCursorRepository.findForUpdate(userName).orElseThrow();
+    }
+
+    // Trips are serialized after the transaction ends; load the species while it is still open.
+    private static List<Trips> initialized(List<Trips> trips) {
+        for (Trips trip : trips) {
+            trip.getPlants().size();
+            trip.getFauna().size();
+        }
+        return trips;
+    }
+}
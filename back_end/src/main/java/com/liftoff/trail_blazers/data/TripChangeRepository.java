@@ -0,0 +1,28 @@
+package com.liftoff.trail_blazers.data;
+
+import com.liftoff.trail_blazers.model.TripChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface TripChangeRepository extends JpaRepository<TripChange, Integer> {
+    List<TripChange> findByUserNameAndSeqGreaterThanOrderBySeq(String userName, long seq);
+
+    @Query("select c.userName as userName, max(c.seq) as seq from TripChange c where c.changedAt < :cutoff group by c.userName")
+    List<CompactionPoint> findCompactionPoints(Date cutoff);
+
+    @Modifying
+    @Query("delete from TripChange c where c.userName = :userName and c.seq <= :seq")
+    int deleteThrough(String userName, long seq);
+
+    interface CompactionPoint {
+        String getUserName();
+
+        long getSeq();
+    }
+}
@@ -0,0 +1,28 @@
+package com.liftoff.trail_blazers.data;
+
+import com.liftoff.trail_blazers.model.TripSyncCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TripSyncCursorRepository extends JpaRepository<TripSyncCursor, Integer> {
+    Optional<TripSyncCursor> findByUserName(String userName);
+
+    boolean existsByUserName(String userName);
+
+    // A concurrent insert of the same userName waits for the other transaction and then becomes a no-op.
+    @Modifying
+    @Query(value = "insert into trip_sync_cursor (user_name, last_seq, compacted_through) values (:userName, 0, 0) "
+            + "on duplicate key update last_seq = last_seq", nativeQuery = true)
+    int insertIfAbsent(String userName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from TripSyncCursor c where c.userName = :userName")
+    Optional<TripSyncCursor> findForUpdate(String userName);
+}
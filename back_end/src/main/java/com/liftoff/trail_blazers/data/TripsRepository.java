@@ -1,7 +1,9 @@
 package com.liftoff.trail_blazers.data;
 
 import com.liftoff.trail_blazers.model.Trips;
+import com.liftoff.trail_blazers.model.dto.TripSpeciesId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,13 @@ import java.util.List;
 @Repository
 public interface TripsRepository extends JpaRepository<Trips, Integer> {
     List<Trips> findByUserName(String userName);
+
+    @Query("select distinct t.userName from Trips t")
+    List<String> findDistinctUserNames();
+
+    @Query("select t.id as tripId, p.id as speciesId from Trips t join t.plants p where t.userName = :userName")
+    List<TripSpeciesId> findPlantIdsByUserName(String userName);
+
+    @Query("select t.id as tripId, f.id as speciesId from Trips t join t.fauna f where t.userName = :userName")
+    List<TripSpeciesId> findFaunaIdsByUserName(String userName);
 }
@@ -0,0 +1,63 @@
+package com.liftoff.trail_blazers.geo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Symmetric great-circle distance matrix (km) over a fixed set of points, stored row-major in one
+ * flat float[] so lookups are a single array read.
+ */
+public final class DistanceMatrix {
+
+    private final int[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final float[] km;
+    private final Map<Integer, Integer> indexById;
+
+    private DistanceMatrix(int[] ids, double[] latitudes, double[] longitudes, float[] km) {
+        this.ids = ids;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.km = km;
+        this.indexById = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            indexById.put(ids[i], i);
+        }
+    }
+
+    /** Builds the matrix; rows are filled in parallel. Arrays are indexed alike and not copied. */
+    public static DistanceMatrix build(int[] ids, double[] latitudes, double[] longitudes) {
+        int n = ids.length;
+        float[] km = new float[n * n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            for (int j = 0; j < n; j++) {
+                km[i * n + j] = i == j ? 0f
+                        : (float) Haversine.distanceKm(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+            }
+        });
+        return new DistanceMatrix(ids, latitudes, longitudes, km);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** Matrix index of the given id, or -1 when it is not part of the matrix. */
+    public int indexOf(int id) {
+        return indexById.getOrDefault(id, -1);
+    }
+
+    public int id(int index) {
+        return ids[index];
+    }
+
+    public float km(int from, int to) {
+        return km[from * ids.length + to];
+    }
+
+    public double kmFrom(double latitude, double longitude, int to) {
+        return Haversine.distanceKm(latitude, longitude, latitudes[to], longitudes[to]);
+    }
+}
@@ -0,0 +1,255 @@
+package com.liftoff.trail_blazers.geo;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Visiting order for a set of stops (open path, optionally from a fixed start point).
+ *
+ * Up to EXACT_LIMIT stops the order is optimal: a Held-Karp dynamic program over subsets of stops.
+ * Longer itineraries are near-optimal: up to MAX_SEEDS stops are tried as the first stop of a
+ * nearest-neighbour tour; each seed is then improved with 2-opt and Or-opt (moving runs of 1-3
+ * stops, either direction) until neither finds a gain, and the cheapest result wins. Seeds are
+ * independent, so they run in parallel.
+ * All distances come from a small local copy of the precomputed {@link DistanceMatrix}.
+ */
+public final class ItineraryOptimizer {
+
+    // 2^10 subsets x 10 x 10 is about 0.1M steps (under 0.5 ms); the work doubles with every stop past that.
+    private static final int EXACT_LIMIT = 10;
+    // Bounds the work for long itineraries; past this many stops extra seeds rarely find a better tour.
+    private static final int MAX_SEEDS = 32;
+    private static final int MAX_OR_OPT_SEGMENT = 3;
+    private static final double EPSILON = 1e-6;
+    private static final int START = -1;
+    private static final int END = -2;
+
+    /** Visiting order as matrix indices, with the leg lengths (the first leg starts at the start point). */
+    public record Itinerary(int[] order, double[] legKm, double totalKm) {}
+
+    private ItineraryOptimizer() {}
+
+    /**
+     * @param stops   matrix indices of the stops to visit, without duplicates
+     * @param startKm distance from the start point to each stop (same order as stops), or null for no fixed start
+     */
+    public static Itinerary optimize(DistanceMatrix matrix, int[] stops, double[] startKm) {
+        int k = stops.length;
+        if (k == 0) {
+            return new Itinerary(new int[0], new double[0], 0);
+        }
+
+        Problem problem = new Problem(matrix, stops, startKm);
+        int[] best = k <= EXACT_LIMIT ? problem.exact() : problem.heuristic();
+
+        int[] order = new int[k];
+        double[] legKm = new double[k];
+        double totalKm = 0;
+        for (int i = 0; i < k; i++) {
+            order[i] = stops[best[i]];
+            legKm[i] = problem.edge(i == 0 ? START : best[i - 1], best[i]);
+            totalKm += legKm[i];
+        }
+        return new Itinerary(order, legKm, totalKm);
+    }
+
+    private static final class Problem {
+        private final int k;
+        private final float[] d;
+        private final double[] startKm;
+
+        private Problem(DistanceMatrix matrix, int[] stops, double[] startKm) {
+            this.k = stops.length;
+            this.startKm = startKm;
+            this.d = new float[k * k];
+            for (int i = 0; i < k; i++) {
+                for (int j = 0; j < k; j++) {
+                    d[i * k + j] = matrix.km(stops[i], stops[j]);
+                }
+            }
+        }
+
+        /** Cost of travelling u -> v, where START is the start point and END costs nothing (open path). */
+        double edge(int u, int v) {
+            if (v == END) {
+                return 0;
+            }
+            if (u == START) {
+                return startKm == null ? 0 : startKm[v];
+            }
+            return d[u * k + v];
+        }
+
+        int[] heuristic() {
+            int seedCount = Math.min(k, MAX_SEEDS);
+            return IntStream.range(0, seedCount)
+                    .map(seed -> seed * k / seedCount)
+                    .parallel()
+                    .mapToObj(first -> improve(nearestNeighbour(first)))
+                    .min(Comparator.comparingDouble(this::cost))
+                    .orElseThrow();
+        }
+
+        // cost[mask * k + last]: cheapest path from the start through the stops in mask, ending at last.
+        int[] exact() {
+            int subsets = 1 << k;
+            double[] cost = new double[subsets * k];
+            int[] previous = new int[subsets * k];
+            Arrays.fill(cost, Double.POSITIVE_INFINITY);
+            for (int v = 0; v < k; v++) {
+                cost[(1 << v) * k + v] = edge(START, v);
+            }
+            for (int mask = 1; mask < subsets; mask++) {
+                for (int last = 0; last < k; last++) {
+                    double reached = cost[mask * k + last];
+                    if (reached == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    for (int next = 0; next < k; next++) {
+                        if ((mask & (1 << next)) != 0) {
+                            continue;
+                        }
+                        int slot = (mask | (1 << next)) * k + next;
+                        double extended = reached + d[last * k + next];
+                        if (extended < cost[slot]) {
+                            cost[slot] = extended;
+                            previous[slot] = last;
+                        }
+                    }
+                }
+            }
+
+            int mask = subsets - 1;
+            int last = 0;
+            for (int v = 1; v < k; v++) {
+                if (cost[mask * k + v] < cost[mask * k + last]) {
+                    last = v;
+                }
+            }
+            int[] tour = new int[k];
+            for (int i = k - 1; i >= 0; i--) {
+                tour[i] = last;
+                int before = previous[mask * k + last];
+                mask ^= 1 << last;
+                last = before;
+            }
+            return tour;
+        }
+
+        double cost(int[] tour) {
+            double total = edge(START, tour[0]);
+            for (int i = 1; i < tour.length; i++) {
+                total += d[tour[i - 1] * k + tour[i]];
+            }
+            return total;
+        }
+
+        int[] nearestNeighbour(int first) {
+            int[] tour = new int[k];
+            boolean[] visited = new boolean[k];
+            tour[0] = first;
+            visited[first] = true;
+            for (int i = 1; i < k; i++) {
+                int from = tour[i - 1];
+                int next = -1;
+                float nextKm = Float.MAX_VALUE;
+                for (int candidate = 0; candidate < k; candidate++) {
+                    if (!visited[candidate] && d[from * k + candidate] < nextKm) {
+                        next = candidate;
+                        nextKm = d[from * k + candidate];
+                    }
+                }
+                tour[i] = next;
+                visited[next] = true;
+            }
+            return tour;
+        }
+
+        int[] improve(int[] tour) {
+            boolean improved = true;
+            while (improved) {
+                improved = twoOpt(tour);
+                int[] moved = orOpt(tour);
+                if (moved != null) {
+                    tour = moved;
+                    improved = true;
+                }
+            }
+            return tour;
+        }
+
+        // Reverses tour[i..j] whenever that shortens the path; returns whether anything changed.
+        private boolean twoOpt(int[] tour) {
+            boolean changed = false;
+            for (int i = 0; i < k - 1; i++) {
+                for (int j = i + 1; j < k; j++) {
+                    int a = i == 0 ? START : tour[i - 1];
+                    int e = j == k - 1 ? END : tour[j + 1];
+                    double delta = edge(a, tour[j]) + edge(tour[i], e) - edge(a, tour[i]) - edge(tour[j], e);
+                    if (delta < -EPSILON) {
+                        reverse(tour, i, j);
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+        // Moves the first improving run of 1-3 stops to a better gap (optionally reversed); null if none.
+        private int[] orOpt(int[] tour) {
+            for (int len = 1; len <= MAX_OR_OPT_SEGMENT && len < k; len++) {
+                for (int i = 0; i + len <= k; i++) {
+                    int s = tour[i];
+                    int t = tour[i + len - 1];
+                    int p = i == 0 ? START : tour[i - 1];
+                    int n = i + len == k ? END : tour[i + len];
+                    double removeGain = edge(p, s) + edge(t, n) - edge(p, n);
+
+                    for (int j = -1; j < k; j++) {
+                        if (j >= i - 1 && j <= i + len - 1) {
+                            continue;
+                        }
+                        int x = j == -1 ? START : tour[j];
+                        int y = j + 1 == k ? END : tour[j + 1];
+                        double base = edge(x, y);
+                        double forward = edge(x, s) + edge(t, y) - base;
+                        double reversed = edge(x, t) + edge(s, y) - base;
+                        boolean reverse = reversed < forward;
+                        if (Math.min(forward, reversed) - removeGain < -EPSILON) {
+                            return move(tour, i, len, j, reverse);
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        // Moves tour[i..i+len-1] to just after position j (j == -1: to the front).
+        private int[] move(int[] tour, int i, int len, int j, boolean reverse) {
+            int[] segment = new int[len];
+            System.arraycopy(tour, i, segment, 0, len);
+            if (reverse) {
+                reverse(segment, 0, len - 1);
+            }
+            int[] rest = new int[k - len];
+            System.arraycopy(tour, 0, rest, 0, i);
+            System.arraycopy(tour, i + len, rest, i, k - i - len);
+
+            int insertAt = j < i ? j + 1 : j + 1 - len;
+            int[] moved = new int[k];
+            System.arraycopy(rest, 0, moved, 0, insertAt);
+            System.arraycopy(segment, 0, moved, insertAt, len);
+            System.arraycopy(rest, insertAt, moved, insertAt + len, rest.length - insertAt);
+            return moved;
+        }
+
+        private static void reverse(int[] values, int from, int to) {
+            while (from < to) {
+                int swap = values[from];
+                values[from++] = values[to];
+                values[to--] = swap;
+            }
+        }
+    }
+}
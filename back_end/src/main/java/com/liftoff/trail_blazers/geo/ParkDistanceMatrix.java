@@ -0,0 +1,69 @@
+package com.liftoff.trail_blazers.geo;
+
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.model.Geolocations;
+import com.liftoff.trail_blazers.replication.ReplicaReads;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Distance matrix over every park, keyed by Geolocations id. DataSeeder rebuilds it once the parks
+ * are seeded; if nothing has been seeded in this process (seeding disabled, data already present)
+ * it is built on first use.
+ */
+@Component
+public class ParkDistanceMatrix {
+
+    private final GeolocationsRepository geolocationsRepository;
+
+    private volatile DistanceMatrix matrix;
+    // Builds query the parks and fill an O(n²) matrix; a ReentrantLock lets virtual threads that wait
+    // here unmount, which a synchronized block would not.
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    public ParkDistanceMatrix(GeolocationsRepository geolocationsRepository) {
+        this.geolocationsRepository = geolocationsRepository;
+    }
+
+    public DistanceMatrix current() {
+        DistanceMatrix current = matrix;
+        if (current == null) {
+            buildLock.lock();
+            try {
+                current = matrix;
+                if (current == null) {
+                    current = build();
+                    matrix = current;
+                }
+            } finally {
+                buildLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    // Holds the lock for the build too, so a first-use build that read the old parks cannot land after it.
+    public void rebuild() {
+        buildLock.lock();
+        try {
+            matrix = build();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private DistanceMatrix build() {
+        List<Geolocations> parks = ReplicaReads.fromPrimary(geolocationsRepository::findAll);
+        int[] ids = new int[parks.size()];
+        double[] latitudes = new double[parks.size()];
+        double[] longitudes = new double[parks.size()];
+        for (int i = 0; i < parks.size(); i++) {
+            ids[i] = parks.get(i).getId();
+            latitudes[i] = parks.get(i).getLatitude();
+            longitudes[i] = parks.get(i).getLongitude();
+        }
+        return DistanceMatrix.build(ids, latitudes, longitudes);
+    }
+}
@@ -0,0 +1,157 @@
+package com.liftoff.trail_blazers.geo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.model.Geolocations;
+import com.liftoff.trail_blazers.replication.ReplicaReads;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pre-encoded park map layer: the full FeatureCollection and the Mapbox Vector Tile of every tile that
+ * holds a park, both as byte arrays. Feature properties use the source GeoJSON names (LOC_NAME,
+ * PARK_ID, ...) that the map already filters on. Built on first use; DataSeeder calls
+ * {@link #invalidate()} after reseeding.
+ */
+@Component
+public class ParkLayer {
+
+    public static final String LAYER_NAME = "parks";
+    public static final int MAX_ZOOM = 14;
+
+    // Points this close to a tile edge (in tile units) are repeated in the neighbour so markers aren't clipped.
+    private static final int BUFFER = 64;
+    private static final byte[] EMPTY_TILE = new byte[0];
+
+    private final GeolocationsRepository geolocationsRepository;
+    private final ObjectMapper objectMapper;
+
+    // Bumped by invalidate(); a snapshot built from an older generation is never served.
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    // Not a monitor: the build blocks on JDBC, and a virtual thread holding a monitor pins its carrier.
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    public ParkLayer(GeolocationsRepository geolocationsRepository, ObjectMapper objectMapper) {
+        this.geolocationsRepository = geolocationsRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public byte[] featureCollection() {
+        return snapshot().featureCollection;
+    }
+
+    /** Returns the encoded tile, or an empty array when no park falls inside it. */
+    public byte[] tile(int z, int x, int y) {
+        return snapshot().tiles.getOrDefault(tileKey(z, x, y), EMPTY_TILE);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation != generation.get()) {
+            buildLock.lock();
+            try {
+                current = snapshot;
+                long wanted = generation.get();
+                if (current == null || current.generation != wanted) {
+                    // Cached until the next reseed, so read it from the primary rather than a replica.
+                    current = new Snapshot(wanted, ReplicaReads.fromPrimary(geolocationsRepository::findAll));
+                    snapshot = current;
+                }
+            } finally {
+                buildLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static long tileKey(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+
+    // Only tiles within BUFFER of a park are encoded; every other tile is empty, so the cache is bounded
+    // by parks x zoom levels x 4 no matter which tiles clients ask for.
+    private static Map<Long, byte[]> encodeTiles(List<Geolocations> parks) {
+        Map<Long, byte[]> tiles = new HashMap<>();
+        for (int z = 0; z <= MAX_ZOOM; z++) {
+            double scale = (1 << z) * (double) VectorTileEncoder.EXTENT;
+            Map<Long, VectorTileEncoder> encoders = new LinkedHashMap<>();
+            for (Geolocations park : parks) {
+                long px = Math.round(WebMercator.x(park.getLongitude()) * scale);
+                long py = Math.round(WebMercator.y(park.getLatitude()) * scale);
+                long tileX = Math.floorDiv(px, VectorTileEncoder.EXTENT);
+                long tileY = Math.floorDiv(py, VectorTileEncoder.EXTENT);
+                for (long x = Math.max(0, tileX - 1); x <= Math.min((1L << z) - 1, tileX + 1); x++) {
+                    for (long y = Math.max(0, tileY - 1); y <= Math.min((1L << z) - 1, tileY + 1); y++) {
+                        long localX = px - x * VectorTileEncoder.EXTENT;
+                        long localY = py - y * VectorTileEncoder.EXTENT;
+                        if (localX >= -BUFFER && localX < VectorTileEncoder.EXTENT + BUFFER
+                                && localY >= -BUFFER && localY < VectorTileEncoder.EXTENT + BUFFER) {
+                            encoders.computeIfAbsent(tileKey(z, (int) x, (int) y), k -> new VectorTileEncoder(LAYER_NAME))
+                                    .addPoint(park.getId(), (int) localX, (int) localY, properties(park));
+                        }
+                    }
+                }
+            }
+            encoders.forEach((key, encoder) -> tiles.put(key, encoder.encode()));
+        }
+        return Map.copyOf(tiles);
+    }
+
+    private static Map<String, Object> properties(Geolocations park) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("LOC_NAME", park.getName());
+        properties.put("PARK_ID", park.getPark_id());
+        properties.put("URL", park.getUrl());
+        properties.put("SHORT_NAME", park.getShort_name());
+        properties.put("REGION", park.getRegion());
+        properties.put("PARK_TYPE", park.getPark_type());
+        properties.put("GIS_ACRES", park.getGis_acres());
+        return properties;
+    }
+
+    private final class Snapshot {
+        private final long generation;
+        private final byte[] featureCollection;
+        private final Map<Long, byte[]> tiles;
+
+        private Snapshot(long generation, List<Geolocations> parks) {
+            this.generation = generation;
+            this.featureCollection = encodeFeatureCollection(parks);
+            this.tiles = encodeTiles(parks);
+        }
+    }
+
+    private byte[] encodeFeatureCollection(List<Geolocations> parks) {
+        List<Map<String, Object>> features = new ArrayList<>(parks.size());
+        for (Geolocations park : parks) {
+            Map<String, Object> feature = new LinkedHashMap<>();
+            feature.put("type", "Feature");
+            feature.put("id", park.getId());
+            feature.put("properties", properties(park));
+            feature.put("geometry", Map.of("type", "Point",
+                    "coordinates", List.of(park.getLongitude(), park.getLatitude())));
+            features.add(feature);
+        }
+        Map<String, Object> collection = new LinkedHashMap<>();
+        collection.put("type", "FeatureCollection");
+        collection.put("features", features);
+        try {
+            return objectMapper.writeValueAsBytes(collection);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode park layer", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.liftoff.trail_blazers.geo;
+
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.model.Geolocations;
+import com.liftoff.trail_blazers.replication.ReplicaReads;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link PlaceNameTrie} over every park's name and short name, behind /parks/suggest. Built on first
+ * use and dropped by DataSeeder whenever the parks are reseeded.
+ */
+@Component
+public class ParkNameIndex {
+
+    private final GeolocationsRepository geolocationsRepository;
+
+    // Bumped by invalidate(); a trie built from an older generation is never served.
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    // Building reads every park and can take seconds on large sets; waiting virtual threads must be
+    // able to unmount, so no synchronized here.
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    public ParkNameIndex(GeolocationsRepository geolocationsRepository) {
+        this.geolocationsRepository = geolocationsRepository;
+    }
+
+    public List<PlaceNameTrie.Suggestion> suggest(String prefix, double latitude, double longitude, int limit) {
+        return current().suggest(prefix, latitude, longitude, limit);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private PlaceNameTrie current() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation != generation.get()) {
+            buildLock.lock();
+            try {
+                current = snapshot;
+                long wanted = generation.get();
+                if (current == null || current.generation != wanted) {
+                    current = new Snapshot(wanted, build());
+                    snapshot = current;
+                }
+            } finally {
+                buildLock.unlock();
+            }
+        }
+        return current.trie;
+    }
+
+    private PlaceNameTrie build() {
+        List<Geolocations> parks = ReplicaReads.fromPrimary(geolocationsRepository::findAll);
+        int[] ids = new int[parks.size()];
+        String[] names = new String[parks.size()];
+        String[] shortNames = new String[parks.size()];
+        double[] latitudes = new double[parks.size()];
+        double[] longitudes = new double[parks.size()];
+        for (int i = 0; i < parks.size(); i++) {
+            Geolocations park = parks.get(i);
+            ids[i] = park.getId();
+            names[i] = park.getName();
+            shortNames[i] = park.getShort_name();
+            latitudes[i] = park.getLatitude();
+            longitudes[i] = park.getLongitude();
+        }
+        return PlaceNameTrie.build(ids, names, shortNames, latitudes, longitudes);
+    }
+
+    private record Snapshot(long generation, PlaceNameTrie trie) {}
+}
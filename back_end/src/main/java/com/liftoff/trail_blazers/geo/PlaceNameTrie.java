@@ -0,0 +1,736 @@
+package com.liftoff.trail_blazers.geo;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Prefix index over place names for type-ahead. Every name is indexed from each of its word starts
+ * ("tonka state park" for "Ha Ha Tonka State Park"), and so is the short name, so a prefix of any
+ * word finds the place. Keys live in one sorted array and the trie is path-compressed and stored in
+ * flat int arrays; each node covers a contiguous range of keys, so its matches are read straight
+ * from that range.
+ *
+ * Ranking adds a match-quality score (whole-name prefix over later words, whole words over partial
+ * ones) to a distance bonus that decays with distance from the caller. Nodes matching more than
+ * {@link #SCAN_LIMIT} keys are not scanned: they keep their places grouped by quality and by cell of
+ * a coarse grid, and a located query walks the grid outwards from the caller until no unvisited
+ * place can make the list. Without a location they read a precomputed list of their best matches.
+ * Both paths score a place exactly as a scan would.
+ */
+public final class PlaceNameTrie {
+
+    static final int SCAN_LIMIT = 512;
+    static final int MAX_KEY_CHARS = 40;
+    static final double DISTANCE_WEIGHT = 0.5;
+    static final double DISTANCE_SCALE_KM = 50;
+    static final double WHOLE_WORD_BONUS = 0.1;
+    static final int PLACES_PER_CELL = 8;
+    static final int MAX_GRID_SIZE = 256;
+
+    private static final byte NAME_START = 0;
+    private static final byte NAME_WORD = 1;
+    private static final byte SHORT_START = 2;
+    private static final byte SHORT_WORD = 3;
+
+    // Every value matchQuality() can take, best first; oversized nodes compare qualities by index.
+    private static final double[] QUALITY_LEVELS = qualityLevels();
+
+    public record Suggestion(int id, String name, String shortName, double score, double distanceKm) {}
+
+    // Places, ordered by name length so that equal scores favour the shorter name.
+    private final int[] ids;
+    private final String[] names;
+    private final String[] shortNames;
+    private final double[] latRad;
+    private final double[] lonRad;
+
+    // Sorted distinct keys; the postings of keys[k] are [keyPostings[k], keyPostings[k + 1]).
+    private final String[] keys;
+    private final int[] keyPostings;
+    private final int[] postingPlace;
+    private final byte[] postingKind;
+    private final byte[] postingWord;
+
+    // Trie nodes: all keys in [nodeLo, nodeHi) share their first nodeDepth chars. Children are
+    // children[childStart .. childStart + childCount), ordered by the char at the parent's depth.
+    private final int[] nodeDepth;
+    private final int[] nodeLo;
+    private final int[] nodeHi;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[] children;
+
+    // Grid over the places' bounding box; cells are numbered row * gridSize + col.
+    private final int gridSize;
+    private final double gridMinLat;
+    private final double gridMinLon;
+    private final double gridMaxLon;
+    private final double gridCellLat;
+    private final double gridCellLon;
+    private final int[] placeCell;
+
+    // Best matches of oversized nodes: candidates[candidateStart[node] .. + candidateCount[node]).
+    private final int[] candidateStart;
+    private final int[] candidateCount;
+    private final int[] candidatePlace;
+    private final double[] candidateQuality;
+
+    // Every distinct place of an oversized node, by quality level and then by grid cell. The node's
+    // levels are [nodeLevelStart[node], nodeLevelStart[node + 1]), a level's non-empty cells are
+    // [levelCellStart[level], levelCellStart[level + 1]) in ascending cellIds order, and a cell's
+    // places are cellPlaces[cellPlaceStart[cell] .. cellPlaceStart[cell + 1]).
+    private final int[] nodeLevelStart;
+    private final double[] levelQuality;
+    private final int[] levelCellStart;
+    private final int[] cellIds;
+    private final int[] cellPlaceStart;
+    private final int[] cellPlaces;
+
+    private PlaceNameTrie(Places places, Keys keys, Nodes nodes) {
+        this.ids = places.ids;
+        this.names = places.names;
+        this.shortNames = places.shortNames;
+        this.latRad = places.latRad;
+        this.lonRad = places.lonRad;
+        this.keys = keys.keys;
+        this.keyPostings = keys.keyPostings;
+        this.postingPlace = keys.postingPlace;
+        this.postingKind = keys.postingKind;
+        this.postingWord = keys.postingWord;
+        this.nodeDepth = nodes.depth.toArray();
+        this.nodeLo = nodes.lo.toArray();
+        this.nodeHi = nodes.hi.toArray();
+        this.childStart = nodes.childStart.toArray();
+        this.childCount = nodes.childCount.toArray();
+        this.children = nodes.children.toArray();
+
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int place = 0; place < ids.length; place++) {
+            if (!Double.isNaN(latRad[place]) && !Double.isNaN(lonRad[place])) {
+                minLat = Math.min(minLat, latRad[place]);
+                maxLat = Math.max(maxLat, latRad[place]);
+                minLon = Math.min(minLon, lonRad[place]);
+                maxLon = Math.max(maxLon, lonRad[place]);
+            }
+        }
+        if (minLat > maxLat) {
+            minLat = maxLat = minLon = maxLon = 0;
+        }
+        this.gridSize = (int) Math.max(1, Math.min(MAX_GRID_SIZE, Math.sqrt((double) ids.length / PLACES_PER_CELL)));
+        this.gridMinLat = minLat;
+        this.gridMinLon = minLon;
+        this.gridMaxLon = maxLon;
+        this.gridCellLat = Math.max((maxLat - minLat) / gridSize, 1e-9);
+        this.gridCellLon = Math.max((maxLon - minLon) / gridSize, 1e-9);
+        this.placeCell = new int[ids.length];
+        for (int place = 0; place < ids.length; place++) {
+            placeCell[place] = gridRow(latRad[place]) * gridSize + gridCol(lonRad[place]);
+        }
+
+        this.candidateStart = new int[nodeDepth.length];
+        this.candidateCount = new int[nodeDepth.length];
+        this.nodeLevelStart = new int[nodeDepth.length + 1];
+        Oversized oversized = new Oversized();
+        buildOversized(oversized);
+        this.candidatePlace = oversized.candidatePlace.toArray();
+        this.candidateQuality = new double[oversized.candidateLevel.size];
+        for (int i = 0; i < candidateQuality.length; i++) {
+            candidateQuality[i] = QUALITY_LEVELS[oversized.candidateLevel.values[i]];
+        }
+        this.levelQuality = new double[oversized.levelIndex.size];
+        for (int i = 0; i < levelQuality.length; i++) {
+            levelQuality[i] = QUALITY_LEVELS[oversized.levelIndex.values[i]];
+        }
+        this.levelCellStart = oversized.levelCellStart.toArray();
+        this.cellIds = oversized.cellIds.toArray();
+        this.cellPlaceStart = oversized.cellPlaceStart.toArray();
+        this.cellPlaces = oversized.cellPlaces.toArray();
+    }
+
+    /**
+     * Indexes the places; the arrays are indexed alike. Blank short names are ignored, and names are
+     * matched case- and accent-insensitively.
+     */
+    public static PlaceNameTrie build(int[] ids, String[] names, String[] shortNames,
+                                      double[] latitudes, double[] longitudes) {
+        Places places = Places.of(ids, names, shortNames, latitudes, longitudes);
+        Keys keys = Keys.of(places);
+        Nodes nodes = new Nodes(keys.keys, keys.keyPostings);
+        return new PlaceNameTrie(places, keys, nodes);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Best {@code limit} places for the prefix, highest score first. Pass NaN coordinates to rank by
+     * match quality alone; distanceKm is then NaN too.
+     */
+    public List<Suggestion> suggest(String prefix, double latitude, double longitude, int limit) {
+        String query = normalize(prefix);
+        if (query.length() > MAX_KEY_CHARS) {
+            query = query.substring(0, MAX_KEY_CHARS);
+        }
+        if (query.isEmpty() || limit <= 0 || keys.length == 0) {
+            return List.of();
+        }
+        int node = find(query);
+        if (node < 0) {
+            return List.of();
+        }
+
+        boolean located = !Double.isNaN(latitude) && !Double.isNaN(longitude);
+        double callerLat = Math.toRadians(latitude);
+        double callerLon = Math.toRadians(longitude);
+        double cosCallerLat = Math.cos(callerLat);
+        TopPlaces top = new TopPlaces(limit);
+
+        if (candidateCount[node] == 0) {
+            for (int key = nodeLo[node]; key < nodeHi[node]; key++) {
+                boolean wholeWord = isWholeWord(key, query.length());
+                for (int posting = keyPostings[key]; posting < keyPostings[key + 1]; posting++) {
+                    int place = postingPlace[posting];
+                    double score = matchQuality(postingKind[posting], postingWord[posting], wholeWord);
+                    if (located) {
+                        score += distanceBonus(approxKm(callerLat, callerLon, cosCallerLat, place));
+                    }
+                    top.offer(place, score);
+                }
+            }
+        } else if (located) {
+            offerNearest(node, callerLat, callerLon, cosCallerLat, top);
+        } else {
+            for (int i = candidateStart[node]; i < candidateStart[node] + candidateCount[node]; i++) {
+                top.offer(candidatePlace[i], candidateQuality[i]);
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(top.size);
+        for (int i = 0; i < top.size; i++) {
+            int place = top.places[i];
+            double distanceKm = located
+                    ? Haversine.distanceKm(latitude, longitude, Math.toDegrees(latRad[place]), Math.toDegrees(lonRad[place]))
+                    : Double.NaN;
+            suggestions.add(new Suggestion(ids[place], names[place], shortNames[place], top.scores[i], distanceKm));
+        }
+        return suggestions;
+    }
+
+    /** Lower case, accents dropped, and every run of non-alphanumerics collapsed to one space. */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(c);
+            } else if (c != '\'') {
+                // Apostrophes join ("Bennett's" matches "bennetts"); anything else separates words.
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static double matchQuality(byte kind, byte word, boolean wholeWord) {
+        double quality = switch (kind) {
+            case NAME_START -> 1.0;
+            case SHORT_START -> 0.9;
+            case NAME_WORD -> 0.75 - 0.05 * Math.min(word - 1, 5);
+            default -> 0.6;
+        };
+        return quality + (wholeWord ? WHOLE_WORD_BONUS : 0);
+    }
+
+    private static double[] qualityLevels() {
+        // Word numbers past 6 all score like 6.
+        return IntStream.range(0, 4 * 7 * 2)
+                .mapToDouble(i -> matchQuality((byte) (i / 14), (byte) (1 + i / 2 % 7), i % 2 == 1))
+                .boxed()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+    }
+
+    private static int qualityLevel(double quality) {
+        for (int level = 0; ; level++) {
+            if (QUALITY_LEVELS[level] == quality) {
+                return level;
+            }
+        }
+    }
+
+    /** Whether a query of queryLength chars that matched the key covers a whole word of it. */
+    private boolean isWholeWord(int key, int queryLength) {
+        return keys[key].length() == queryLength || keys[key].charAt(queryLength) == ' ';
+    }
+
+    private static double distanceBonus(double km) {
+        return DISTANCE_WEIGHT * DISTANCE_SCALE_KM / (DISTANCE_SCALE_KM + km);
+    }
+
+    // Equirectangular approximation: well under 1% off at state scale and much cheaper than haversine.
+    private double approxKm(double callerLat, double callerLon, double cosCallerLat, int place) {
+        double dLat = latRad[place] - callerLat;
+        double dLon = lonRad[place] - callerLon;
+        if (dLon > Math.PI) {
+            dLon -= 2 * Math.PI;
+        } else if (dLon < -Math.PI) {
+            dLon += 2 * Math.PI;
+        }
+        double x = dLon * cosCallerLat;
+        return Haversine.EARTH_RADIUS_KM * Math.sqrt(x * x + dLat * dLat);
+    }
+
+    private int gridRow(double lat) {
+        return Math.max(0, Math.min(gridSize - 1, (int) ((lat - gridMinLat) / gridCellLat)));
+    }
+
+    private int gridCol(double lon) {
+        return Math.max(0, Math.min(gridSize - 1, (int) ((lon - gridMinLon) / gridCellLon)));
+    }
+
+    /**
+     * Offers an oversized node's places ring by ring around the caller's grid cell. Within a quality
+     * level the score only falls with distance, so a level is skipped once the nearest cell of the
+     * ring is too far for its places to beat the current last suggestion.
+     */
+    private void offerNearest(int node, double callerLat, double callerLon, double cosCallerLat, TopPlaces top) {
+        int row = gridRow(callerLat);
+        int col = gridCol(callerLon);
+        int maxRing = Math.max(Math.max(row, gridSize - 1 - row), Math.max(col, gridSize - 1 - col));
+        // Going the other way round the globe still spans at least this much longitude.
+        double wrapLon = Math.max(0, 2 * Math.PI - (Math.max(gridMaxLon, callerLon) - Math.min(gridMinLon, callerLon)));
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Cells of the ring are at least ring - 1 whole cells away in latitude or longitude.
+            double gap = Math.max(0, ring - 1);
+            double nearestKm = Haversine.EARTH_RADIUS_KM
+                    * Math.min(gap * gridCellLat, Math.min(gap * gridCellLon, wrapLon) * cosCallerLat);
+            double bestBonus = distanceBonus(nearestKm);
+            boolean open = false;
+            for (int level = nodeLevelStart[node]; level < nodeLevelStart[node + 1]; level++) {
+                if (top.isFull() && levelQuality[level] + bestBonus < top.lastScore()) {
+                    break; // levels are best first
+                }
+                open = true;
+                offerRing(level, row, col, ring, callerLat, callerLon, cosCallerLat, top);
+            }
+            if (!open) {
+                return;
+            }
+        }
+    }
+
+    private void offerRing(int level, int row, int col, int ring,
+                           double callerLat, double callerLon, double cosCallerLat, TopPlaces top) {
+        int from = levelCellStart[level];
+        int to = levelCellStart[level + 1];
+        if (to - from <= Math.max(1, 8 * ring)) {
+            // Fewer occupied cells than ring cells: check each occupied cell instead.
+            for (int cell = from; cell < to; cell++) {
+                int cellRow = cellIds[cell] / gridSize;
+                int cellCol = cellIds[cell] % gridSize;
+                if (Math.max(Math.abs(cellRow - row), Math.abs(cellCol - col)) == ring) {
+                    offerCell(cell, levelQuality[level], callerLat, callerLon, cosCallerLat, top);
+                }
+            }
+            return;
+        }
+        for (int r = Math.max(0, row - ring); r <= Math.min(gridSize - 1, row + ring); r++) {
+            if (Math.abs(r - row) == ring) {
+                for (int c = Math.max(0, col - ring); c <= Math.min(gridSize - 1, col + ring); c++) {
+                    offerCell(level, r * gridSize + c, callerLat, callerLon, cosCallerLat, top);
+                }
+            } else {
+                if (col - ring >= 0) {
+                    offerCell(level, r * gridSize + col - ring, callerLat, callerLon, cosCallerLat, top);
+                }
+                if (col + ring < gridSize) {
+                    offerCell(level, r * gridSize + col + ring, callerLat, callerLon, cosCallerLat, top);
+                }
+            }
+        }
+    }
+
+    private void offerCell(int level, int cellId, double callerLat, double callerLon, double cosCallerLat,
+                           TopPlaces top) {
+        int cell = Arrays.binarySearch(cellIds, levelCellStart[level], levelCellStart[level + 1], cellId);
+        if (cell >= 0) {
+            offerCell(cell, levelQuality[level], callerLat, callerLon, cosCallerLat, top);
+        }
+    }
+
+    private void offerCell(int cell, double quality, double callerLat, double callerLon, double cosCallerLat,
+                           TopPlaces top) {
+        for (int i = cellPlaceStart[cell]; i < cellPlaceStart[cell + 1]; i++) {
+            int place = cellPlaces[i];
+            top.offer(place, quality + distanceBonus(approxKm(callerLat, callerLon, cosCallerLat, place)));
+        }
+    }
+
+    /** The node whose keys all start with the query, or -1. */
+    private int find(String query) {
+        int node = 0;
+        int matched = 0;
+        while (true) {
+            String sample = keys[nodeLo[node]];
+            int depth = nodeDepth[node];
+            int end = Math.min(depth, query.length());
+            for (int i = matched; i < end; i++) {
+                if (sample.charAt(i) != query.charAt(i)) {
+                    return -1;
+                }
+            }
+            if (query.length() <= depth) {
+                return node;
+            }
+            node = child(node, query.charAt(depth));
+            if (node < 0) {
+                return -1;
+            }
+            matched = depth;
+        }
+    }
+
+    private int child(int node, char c) {
+        int depth = nodeDepth[node];
+        int lo = childStart[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char midChar = keys[nodeLo[children[mid]]].charAt(depth);
+            if (midChar < c) {
+                lo = mid + 1;
+            } else if (midChar > c) {
+                hi = mid - 1;
+            } else {
+                return children[mid];
+            }
+        }
+        return -1;
+    }
+
+    // For every node with more than SCAN_LIMIT postings: its SCAN_LIMIT best distinct places by
+    // match quality, ties going to the shorter name, and all of its places by level and grid cell.
+    // Such nodes are never path-compressed, so a query that reaches one ends at its depth and the
+    // whole-word bonus of each key is known here.
+    private void buildOversized(Oversized oversized) {
+        int[] best = new int[ids.length];
+        int[] seen = new int[ids.length];
+        int[] touched = new int[ids.length];
+        int stamp = 0;
+        for (int node = 0; node < nodeDepth.length; node++) {
+            nodeLevelStart[node] = oversized.levelIndex.size;
+            int from = keyPostings[nodeLo[node]];
+            int to = keyPostings[nodeHi[node]];
+            if (to - from <= SCAN_LIMIT) {
+                continue;
+            }
+            stamp++;
+            int touchedCount = 0;
+            for (int key = nodeLo[node]; key < nodeHi[node]; key++) {
+                boolean wholeWord = isWholeWord(key, nodeDepth[node]);
+                for (int posting = keyPostings[key]; posting < keyPostings[key + 1]; posting++) {
+                    int place = postingPlace[posting];
+                    int level = qualityLevel(matchQuality(postingKind[posting], postingWord[posting], wholeWord));
+                    if (seen[place] != stamp) {
+                        seen[place] = stamp;
+                        best[place] = level;
+                        touched[touchedCount++] = place;
+                    } else if (level < best[place]) {
+                        best[place] = level;
+                    }
+                }
+            }
+            long[] ranked = new long[touchedCount];
+            for (int i = 0; i < touchedCount; i++) {
+                int place = touched[i];
+                ranked[i] = ((long) best[place] << 32) | place;
+            }
+            Arrays.sort(ranked);
+            int count = Math.min(SCAN_LIMIT, touchedCount);
+            candidateStart[node] = oversized.candidatePlace.size;
+            candidateCount[node] = count;
+            for (int i = 0; i < count; i++) {
+                int place = (int) ranked[i];
+                oversized.candidatePlace.add(place);
+                oversized.candidateLevel.add(best[place]);
+            }
+
+            for (int levelFrom = 0; levelFrom < touchedCount; ) {
+                int level = (int) (ranked[levelFrom] >>> 32);
+                int levelTo = levelFrom + 1;
+                while (levelTo < touchedCount && (int) (ranked[levelTo] >>> 32) == level) {
+                    levelTo++;
+                }
+                long[] byCell = new long[levelTo - levelFrom];
+                for (int i = levelFrom; i < levelTo; i++) {
+                    int place = (int) ranked[i];
+                    byCell[i - levelFrom] = ((long) placeCell[place] << 32) | place;
+                }
+                Arrays.sort(byCell);
+                oversized.levelIndex.add(level);
+                oversized.levelCellStart.add(oversized.cellIds.size);
+                for (int i = 0; i < byCell.length; i++) {
+                    int cell = (int) (byCell[i] >>> 32);
+                    if (i == 0 || cell != (int) (byCell[i - 1] >>> 32)) {
+                        oversized.cellIds.add(cell);
+                        oversized.cellPlaceStart.add(oversized.cellPlaces.size);
+                    }
+                    oversized.cellPlaces.add((int) byCell[i]);
+                }
+                levelFrom = levelTo;
+            }
+        }
+        nodeLevelStart[nodeDepth.length] = oversized.levelIndex.size;
+        oversized.levelCellStart.add(oversized.cellIds.size);
+        oversized.cellPlaceStart.add(oversized.cellPlaces.size);
+    }
+
+    private static final class Oversized {
+        final IntList candidatePlace = new IntList();
+        final IntList candidateLevel = new IntList();
+        final IntList levelIndex = new IntList();
+        final IntList levelCellStart = new IntList();
+        final IntList cellIds = new IntList();
+        final IntList cellPlaceStart = new IntList();
+        final IntList cellPlaces = new IntList();
+    }
+
+    /** Fixed-size best-first list; a place offered twice keeps its higher score. */
+    private static final class TopPlaces {
+        final int[] places;
+        final double[] scores;
+        int size;
+
+        TopPlaces(int limit) {
+            places = new int[limit];
+            scores = new double[limit];
+        }
+
+        boolean isFull() {
+            return size == places.length;
+        }
+
+        double lastScore() {
+            return scores[size - 1];
+        }
+
+        void offer(int place, double score) {
+            for (int i = 0; i < size; i++) {
+                if (places[i] == place) {
+                    if (score <= scores[i]) {
+                        return;
+                    }
+                    remove(i);
+                    break;
+                }
+            }
+            if (size == places.length && !beats(score, place, size - 1)) {
+                return;
+            }
+            int at = Math.min(size, places.length - 1);
+            while (at > 0 && beats(score, place, at - 1)) {
+                if (at < places.length) {
+                    places[at] = places[at - 1];
+                    scores[at] = scores[at - 1];
+                }
+                at--;
+            }
+            places[at] = place;
+            scores[at] = score;
+            if (size < places.length) {
+                size++;
+            }
+        }
+
+        private boolean beats(double score, int place, int i) {
+            return score > scores[i] || (score == scores[i] && place < places[i]);
+        }
+
+        private void remove(int i) {
+            System.arraycopy(places, i + 1, places, i, size - i - 1);
+            System.arraycopy(scores, i + 1, scores, i, size - i - 1);
+            size--;
+        }
+    }
+
+    private record Places(int[] ids, String[] names, String[] shortNames, double[] latRad, double[] lonRad,
+                          String[] normalizedNames, String[] normalizedShortNames) {
+
+        static Places of(int[] ids, String[] names, String[] shortNames, double[] latitudes, double[] longitudes) {
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(i -> names[i] == null ? 0 : names[i].length())
+                    .thenComparing(i -> names[i] == null ? "" : names[i]));
+
+            int n = ids.length;
+            Places places = new Places(new int[n], new String[n], new String[n], new double[n], new double[n],
+                    new String[n], new String[n]);
+            for (int place = 0; place < n; place++) {
+                int source = order[place];
+                places.ids[place] = ids[source];
+                places.names[place] = names[source];
+                places.shortNames[place] = shortNames[source] == null || shortNames[source].isBlank() ? null : shortNames[source];
+                places.latRad[place] = Math.toRadians(latitudes[source]);
+                places.lonRad[place] = Math.toRadians(longitudes[source]);
+                places.normalizedNames[place] = normalize(names[source]);
+                places.normalizedShortNames[place] = normalize(places.shortNames[place]);
+            }
+            return places;
+        }
+    }
+
+    private record Keys(String[] keys, int[] keyPostings, int[] postingPlace, byte[] postingKind, byte[] postingWord) {
+
+        private record Entry(String key, int place, byte kind, byte word) {}
+
+        static Keys of(Places places) {
+            List<Entry> entries = new ArrayList<>();
+            for (int place = 0; place < places.ids.length; place++) {
+                addWordStarts(entries, places.normalizedNames[place], place, NAME_START, NAME_WORD);
+                addWordStarts(entries, places.normalizedShortNames[place], place, SHORT_START, SHORT_WORD);
+            }
+            entries.sort(Comparator.comparing(Entry::key).thenComparingInt(Entry::place));
+
+            List<String> keys = new ArrayList<>();
+            IntList keyPostings = new IntList();
+            int[] postingPlace = new int[entries.size()];
+            byte[] postingKind = new byte[entries.size()];
+            byte[] postingWord = new byte[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                if (keys.isEmpty() || !keys.get(keys.size() - 1).equals(entry.key)) {
+                    keys.add(entry.key);
+                    keyPostings.add(i);
+                }
+                postingPlace[i] = entry.place;
+                postingKind[i] = entry.kind;
+                postingWord[i] = entry.word;
+            }
+            keyPostings.add(entries.size());
+            return new Keys(keys.toArray(String[]::new), keyPostings.toArray(), postingPlace, postingKind, postingWord);
+        }
+
+        private static void addWordStarts(List<Entry> entries, String text, int place, byte startKind, byte wordKind) {
+            if (text.isEmpty()) {
+                return;
+            }
+            int word = 0;
+            for (int start = 0; start < text.length(); start++) {
+                if (start == 0 || text.charAt(start - 1) == ' ') {
+                    String key = text.substring(start, Math.min(text.length(), start + MAX_KEY_CHARS));
+                    entries.add(new Entry(key, place, word == 0 ? startKind : wordKind, (byte) Math.min(word, 127)));
+                    word++;
+                }
+            }
+        }
+    }
+
+    private static final class Nodes {
+        final IntList depth = new IntList();
+        final IntList lo = new IntList();
+        final IntList hi = new IntList();
+        final IntList childStart = new IntList();
+        final IntList childCount = new IntList();
+        final IntList children = new IntList();
+        private final String[] keys;
+        private final int[] keyPostings;
+
+        Nodes(String[] keys, int[] keyPostings) {
+            this.keys = keys;
+            this.keyPostings = keyPostings;
+            if (keys.length > 0) {
+                build(0, keys.length, 0);
+            }
+        }
+
+        // Keys are short (MAX_KEY_CHARS), which bounds the recursion depth.
+        private int build(int from, int to, int depth) {
+            // Path compression: extend while every key continues with the same char. Sorted keys
+            // agree on a position when the first and last do. Oversized nodes are left one char
+            // deep so that queries end exactly at them.
+            String first = keys[from];
+            String last = keys[to - 1];
+            boolean oversized = keyPostings[to] - keyPostings[from] > SCAN_LIMIT;
+            while (!oversized && first.length() > depth && last.length() > depth && first.charAt(depth) == last.charAt(depth)) {
+                depth++;
+            }
+
+            int node = addNode(depth, from, to);
+            IntList own = new IntList();
+            int start = from;
+            if (keys[start].length() == depth) {
+                start++; // the key that ends here sorts first
+            }
+            while (start < to) {
+                char c = keys[start].charAt(depth);
+                int end = start + 1;
+                while (end < to && keys[end].charAt(depth) == c) {
+                    end++;
+                }
+                own.add(build(start, end, depth + 1));
+                start = end;
+            }
+            childStart.set(node, children.size);
+            childCount.set(node, own.size);
+            for (int i = 0; i < own.size; i++) {
+                children.add(own.values[i]);
+            }
+            return node;
+        }
+
+        private int addNode(int nodeDepth, int from, int to) {
+            int node = depth.size;
+            depth.add(nodeDepth);
+            lo.add(from);
+            hi.add(to);
+            childStart.add(0);
+            childCount.add(0);
+            return node;
+        }
+    }
+
+    private static final class IntList {
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.liftoff.trail_blazers.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reader for MO_State_Park_and_Historic_Sites_Trails.csv (ID,LOC_NAME,X,Y,PARK_TYPE).
+ *
+ * The file is not valid RFC 4180: some names carry unbalanced or doubled quotes
+ * ({@code "Edward "Ted"" and Pat ...""}), so fields are taken from the ends of the line instead of
+ * by a quote-aware parser: ID first, PARK_TYPE last, X/Y before it, and everything between is the name.
+ * Most rows hold UTM zone 15N easting/northing; a few trailing rows already hold latitude/longitude
+ * and are passed through. Coordinates are collected into primitive arrays and projected in one batch.
+ */
+public final class TrailheadCsv {
+
+    public static final int MISSOURI_UTM_ZONE = 15;
+
+    private TrailheadCsv() {}
+
+    public static Batch read(Reader source) throws IOException {
+        Batch batch = new Batch();
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        reader.readLine(); // header
+        String line;
+        while ((line = reader.readLine()) != null) {
+            batch.add(line);
+        }
+        batch.project();
+        return batch;
+    }
+
+    /** Parsed rows as parallel arrays; index i describes one trailhead. */
+    public static final class Batch {
+        private int size;
+        private int skipped;
+        private int[] ids = new int[256];
+        private String[] names = new String[256];
+        private String[] parkTypes = new String[256];
+        private double[] x = new double[256];
+        private double[] y = new double[256];
+        private boolean[] utm = new boolean[256];
+        private double[] latitudes;
+        private double[] longitudes;
+
+        public int size() {
+            return size;
+        }
+
+        /** Lines that could not be read (too few fields or non-numeric coordinates). */
+        public int skipped() {
+            return skipped;
+        }
+
+        public int id(int i) {
+            return ids[i];
+        }
+
+        public String name(int i) {
+            return names[i];
+        }
+
+        public String parkType(int i) {
+            return parkTypes[i];
+        }
+
+        public double latitude(int i) {
+            return latitudes[i];
+        }
+
+        public double longitude(int i) {
+            return longitudes[i];
+        }
+
+        void add(String line) {
+            int first = line.indexOf(',');
+            int last = line.lastIndexOf(',');
+            int beforeLast = last > 0 ? line.lastIndexOf(',', last - 1) : -1;
+            int xStart = beforeLast > 0 ? line.lastIndexOf(',', beforeLast - 1) : -1;
+            if (first < 0 || xStart <= first) {
+                skipped++;
+                return;
+            }
+
+            double xValue;
+            double yValue;
+            int id;
+            try {
+                id = Integer.parseInt(line.substring(0, first).trim());
+                xValue = Double.parseDouble(line.substring(xStart + 1, beforeLast).trim());
+                yValue = Double.parseDouble(line.substring(beforeLast + 1, last).trim());
+            } catch (NumberFormatException e) {
+                skipped++;
+                return;
+            }
+
+            ensureCapacity();
+            ids[size] = id;
+            names[size] = unquote(line.substring(first + 1, xStart));
+            parkTypes[size] = unquote(line.substring(last + 1));
+            // Rows that already hold geographic coordinates store latitude in X and longitude in Y.
+            boolean geographic = Math.abs(xValue) <= 90 && Math.abs(yValue) <= 180;
+            utm[size] = !geographic;
+            x[size] = xValue;
+            y[size] = yValue;
+            size++;
+        }
+
+        void project() {
+            latitudes = new double[size];
+            longitudes = new double[size];
+            UtmProjection.toWgs84(x, y, utm, size, MISSOURI_UTM_ZONE, true, latitudes, longitudes);
+            for (int i = 0; i < size; i++) {
+                if (!utm[i]) {
+                    latitudes[i] = x[i];
+                    longitudes[i] = y[i];
+                }
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size < ids.length) {
+                return;
+            }
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            parkTypes = Arrays.copyOf(parkTypes, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            utm = Arrays.copyOf(utm, capacity);
+        }
+
+        private static String unquote(String field) {
+            String value = field.trim();
+            int start = 0;
+            int end = value.length();
+            while (start < end && value.charAt(start) == '"') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) == '"') {
+                end--;
+            }
+            value = value.substring(start, end).replace("\"\"", "\"").trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.liftoff.trail_blazers.geo;
+
+/**
+ * Inverse Transverse Mercator (UTM, WGS84 ellipsoid) in one pass over primitive arrays.
+ * Uses the USGS series (Snyder, "Map Projections - A Working Manual", eq. 8-18 to 8-25),
+ * good to well under a metre inside a zone. All per-call constants are hoisted out of the loop
+ * so the loop body is straight-line arithmetic over the arrays.
+ */
+public final class UtmProjection {
+
+    private static final double A = 6378137.0;
+    private static final double F = 1 / 298.257223563;
+    private static final double K0 = 0.9996;
+    private static final double FALSE_EASTING = 500000.0;
+    private static final double FALSE_NORTHING_SOUTH = 10000000.0;
+
+    private static final double E2 = F * (2 - F);
+    private static final double EP2 = E2 / (1 - E2);
+    private static final double E1 = (1 - Math.sqrt(1 - E2)) / (1 + Math.sqrt(1 - E2));
+    private static final double MU_DIVISOR = A * (1 - E2 / 4 - 3 * E2 * E2 / 64 - 5 * E2 * E2 * E2 / 256);
+    private static final double J1 = 3 * E1 / 2 - 27 * Math.pow(E1, 3) / 32;
+    private static final double J2 = 21 * E1 * E1 / 16 - 55 * Math.pow(E1, 4) / 32;
+    private static final double J3 = 151 * Math.pow(E1, 3) / 96;
+    private static final double J4 = 1097 * Math.pow(E1, 4) / 512;
+
+    private UtmProjection() {}
+
+    /**
+     * Projects {@code count} points from UTM easting/northing (metres) to latitude/longitude (degrees).
+     * Only indexes where {@code mask} is true are written; pass null to project every point.
+     */
+    public static void toWgs84(double[] easting, double[] northing, boolean[] mask, int count,
+                               int zone, boolean northern,
+                               double[] latitude, double[] longitude) {
+        double centralMeridian = Math.toRadians((zone - 1) * 6 - 180 + 3);
+        double falseNorthing = northern ? 0 : FALSE_NORTHING_SOUTH;
+
+        for (int i = 0; i < count; i++) {
+            if (mask != null && !mask[i]) {
+                continue;
+            }
+            double x = easting[i] - FALSE_EASTING;
+            double mu = (northing[i] - falseNorthing) / K0 / MU_DIVISOR;
+
+            double phi1 = mu + J1 * Math.sin(2 * mu) + J2 * Math.sin(4 * mu)
+                    + J3 * Math.sin(6 * mu) + J4 * Math.sin(8 * mu);
+            double sin = Math.sin(phi1);
+            double cos = Math.cos(phi1);
+            double tan = sin / cos;
+
+            double c1 = EP2 * cos * cos;
+            double t1 = tan * tan;
+            double w = 1 - E2 * sin * sin;
+            double n1 = A / Math.sqrt(w);
+            double r1 = A * (1 - E2) / (w * Math.sqrt(w));
+            double d = x / (n1 * K0);
+            double d2 = d * d;
+
+            double lat = phi1 - (n1 * tan / r1) * (d2 / 2
+                    - (5 + 3 * t1 + 10 * c1 - 4 * c1 * c1 - 9 * EP2) * d2 * d2 / 24
+                    + (61 + 90 * t1 + 298 * c1 + 45 * t1 * t1 - 252 * EP2 - 3 * c1 * c1) * d2 * d2 * d2 / 720);
+            double lon = centralMeridian + (d
+                    - (1 + 2 * t1 + c1) * d2 * d / 6
+                    + (5 - 2 * c1 + 28 * t1 - 3 * c1 * c1 + 8 * EP2 + 24 * t1 * t1) * d2 * d2 * d / 120) / cos;
+
+            latitude[i] = Math.toDegrees(lat);
+            longitude[i] = Math.toDegrees(lon);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.liftoff.trail_blazers.geo;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal Mapbox Vector Tile (v2.1) writer for a single layer of point features.
+ * Hand-rolled protobuf; only the fields the spec requires for points are written.
+ */
+public class VectorTileEncoder {
+
+    public static final int EXTENT = 4096;
+
+    private static final int POINT = 1;
+    private static final int MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+    private final String layerName;
+    private final Map<String, Integer> keys = new LinkedHashMap<>();
+    private final Map<Object, Integer> values = new LinkedHashMap<>();
+    private final List<byte[]> features = new ArrayList<>();
+
+    public VectorTileEncoder(String layerName) {
+        this.layerName = layerName;
+    }
+
+    /** Adds a point at tile-local coordinates (0..EXTENT, y down). Null attribute values are left out. */
+    public void addPoint(long id, int x, int y, Map<String, Object> attributes) {
+        ByteArrayOutputStream tags = new ByteArrayOutputStream();
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            if (attribute.getValue() == null) {
+                continue;
+            }
+            writeVarint(tags, keys.computeIfAbsent(attribute.getKey(), key -> keys.size()));
+            writeVarint(tags, values.computeIfAbsent(attribute.getValue(), value -> values.size()));
+        }
+
+        ByteArrayOutputStream geometry = new ByteArrayOutputStream();
+        writeVarint(geometry, MOVE_TO_ONE);
+        writeVarint(geometry, zigZag(x));
+        writeVarint(geometry, zigZag(y));
+
+        ByteArrayOutputStream feature = new ByteArrayOutputStream();
+        writeTag(feature, 1, 0);
+        writeVarint(feature, id);
+        writeBytes(feature, 2, tags.toByteArray());
+        writeTag(feature, 3, 0);
+        writeVarint(feature, POINT);
+        writeBytes(feature, 4, geometry.toByteArray());
+        features.add(feature.toByteArray());
+    }
+
+    public boolean isEmpty() {
+        return features.isEmpty();
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        writeTag(layer, 15, 0);
+        writeVarint(layer, 2);
+        writeBytes(layer, 1, layerName.getBytes(StandardCharsets.UTF_8));
+        for (byte[] feature : features) {
+            writeBytes(layer, 2, feature);
+        }
+        for (String key : keys.keySet()) {
+            writeBytes(layer, 3, key.getBytes(StandardCharsets.UTF_8));
+        }
+        for (Object value : values.keySet()) {
+            writeBytes(layer, 4, encodeValue(value));
+        }
+        writeTag(layer, 5, 0);
+        writeVarint(layer, EXTENT);
+
+        ByteArrayOutputStream tile = new ByteArrayOutputStream();
+        writeBytes(tile, 3, layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    private static byte[] encodeValue(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (value instanceof Integer || value instanceof Long) {
+            writeTag(out, 6, 0);
+            writeVarint(out, zigZag(((Number) value).longValue()));
+        } else if (value instanceof Number number) {
+            writeTag(out, 3, 1);
+            long bits = Double.doubleToLongBits(number.doubleValue());
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (bits >>> (8 * i)) & 0xFF);
+            }
+        } else if (value instanceof Boolean bool) {
+            writeTag(out, 7, 0);
+            writeVarint(out, bool ? 1 : 0);
+        } else {
+            writeBytes(out, 1, value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, ((long) field << 3) | wireType);
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, int field, byte[] bytes) {
+        writeTag(out, field, 2);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
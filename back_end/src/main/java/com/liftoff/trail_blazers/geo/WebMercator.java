@@ -0,0 +1,21 @@
+package com.liftoff.trail_blazers.geo;
+
+/**
+ * Spherical (EPSG:3857) projection to normalized tile space: 0..1 across the world, y pointing south.
+ */
+public final class WebMercator {
+
+    private static final double MAX_LATITUDE = 85.0511287798;
+
+    private WebMercator() {}
+
+    public static double x(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    public static double y(double latitude) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+}
@@ -17,6 +17,9 @@ public class Geolocations extends AbstractEntity {
     private String park_type;
     private String url;
     private String short_name;
+    private Integer park_id;
+    private String region;
+    private Double gis_acres;
 
     public Geolocations(){}
 
@@ -68,6 +71,30 @@ public class Geolocations extends AbstractEntity {
         this.short_name = short_name;
     }
 
+    public Integer getPark_id() {
+        return park_id;
+    }
+
+    public void setPark_id(Integer park_id) {
+        this.park_id = park_id;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public Double getGis_acres() {
+        return gis_acres;
+    }
+
+    public void setGis_acres(Double gis_acres) {
+        this.gis_acres = gis_acres;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -0,0 +1,66 @@
+package com.liftoff.trail_blazers.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(indexes = @Index(columnList = "latitude, longitude"))
+public class Trailheads extends AbstractEntity {
+
+    private String name;
+    private double latitude;
+    private double longitude;
+    private String park_type;
+
+    @ManyToOne
+    private Geolocations park;
+
+    public Trailheads(){}
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getPark_type() {
+        return park_type;
+    }
+
+    public void setPark_type(String park_type) {
+        this.park_type = park_type;
+    }
+
+    public Geolocations getPark() {
+        return park;
+    }
+
+    public void setPark(Geolocations park) {
+        this.park = park;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,53 @@
+package com.liftoff.trail_blazers.model;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+/**
+ * One entry of the append-only trip change log. seq is per user and strictly increasing; it is the
+ * token handed to clients by /trips/changes/{userName}.
+ */
+@Entity
+@Table(indexes = @Index(columnList = "userName, seq"))
+public class TripChange extends AbstractEntity {
+
+    private String userName;
+    private long seq;
+    private int tripId;
+
+    @Enumerated(EnumType.STRING)
+    private TripChangeType type;
+
+    private Date changedAt;
+
+    public TripChange(String userName, long seq, int tripId, TripChangeType type) {
+        this.userName = userName;
+        this.seq = seq;
+        this.tripId = tripId;
+        this.type = type;
+        this.changedAt = new Date();
+    }
+
+    public TripChange() {}
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public int getTripId() {
+        return tripId;
+    }
+
+    public TripChangeType getType() {
+        return type;
+    }
+
+    public Date getChangedAt() {
+        return changedAt;
+    }
+}
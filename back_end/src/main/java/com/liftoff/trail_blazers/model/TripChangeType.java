@@ -0,0 +1,6 @@
+package com.liftoff.trail_blazers.model;
+
+public enum TripChangeType {
+    UPSERT,
+    DELETE
+}
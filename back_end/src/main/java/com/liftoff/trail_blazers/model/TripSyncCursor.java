@@ -0,0 +1,44 @@
+package com.liftoff.trail_blazers.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+/**
+ * Per-user head of the trip change log. Writers lock this row to hand out the next seq, so one
+ * user's changes commit in seq order. compactedThrough is the highest seq removed by compaction;
+ * clients holding an older token get a full reset instead of a delta.
+ */
+@Entity
+public class TripSyncCursor extends AbstractEntity {
+
+    @Column(unique = true)
+    private String userName;
+    private long lastSeq;
+    private long compactedThrough;
+
+    public TripSyncCursor(String userName) {
+        this.userName = userName;
+    }
+
+    public TripSyncCursor() {}
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    public void setLastSeq(long lastSeq) {
+        this.lastSeq = lastSeq;
+    }
+
+    public long getCompactedThrough() {
+        return compactedThrough;
+    }
+
+    public void setCompactedThrough(long compactedThrough) {
+        this.compactedThrough = compactedThrough;
+    }
+}
@@ -15,6 +15,8 @@ public class Trips extends AbstractEntity {
 
     private String tripName;
     private String location;
+    // The Geolocations id behind location; null for trips saved before parks were required.
+    private Integer parkId;
 
     @JsonFormat(pattern="yyyy-MM-dd")
     private Date date;
@@ -55,6 +57,14 @@ public class Trips extends AbstractEntity {
         this.location = location;
     }
 
+    public Integer getParkId() {
+        return parkId;
+    }
+
+    public void setParkId(Integer parkId) {
+        this.parkId = parkId;
+    }
+
     public Date getDate() {
         return date;
     }
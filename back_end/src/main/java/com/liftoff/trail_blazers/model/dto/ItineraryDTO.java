@@ -0,0 +1,35 @@
+package com.liftoff.trail_blazers.model.dto;
+
+import com.liftoff.trail_blazers.model.Geolocations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of /parks/itinerary: parks in visiting order. legDistancesKm[i] is the distance travelled to
+ * reach stops[i] (from the start point for i == 0, 0 when no start was given).
+ */
+public class ItineraryDTO {
+
+    private List<Geolocations> stops = new ArrayList<>();
+    private List<Double> legDistancesKm = new ArrayList<>();
+    private double totalDistanceKm;
+
+    public ItineraryDTO(){}
+
+    public List<Geolocations> getStops() {
+        return stops;
+    }
+
+    public List<Double> getLegDistancesKm() {
+        return legDistancesKm;
+    }
+
+    public double getTotalDistanceKm() {
+        return totalDistanceKm;
+    }
+
+    public void setTotalDistanceKm(double totalDistanceKm) {
+        this.totalDistanceKm = totalDistanceKm;
+    }
+}
@@ -0,0 +1,40 @@
+package com.liftoff.trail_blazers.model.dto;
+
+import com.liftoff.trail_blazers.geo.PlaceNameTrie;
+
+/**
+ * One /parks/suggest result. id is what a trip sends as parkId (name becomes its location);
+ * distanceKm is null when the caller sent no position.
+ */
+public class ParkSuggestionDTO {
+
+    private int id;
+    private String name;
+    private String shortName;
+    private Double distanceKm;
+
+    public ParkSuggestionDTO(){}
+
+    public ParkSuggestionDTO(PlaceNameTrie.Suggestion suggestion) {
+        this.id = suggestion.id();
+        this.name = suggestion.name();
+        this.shortName = suggestion.shortName();
+        this.distanceKm = Double.isNaN(suggestion.distanceKm()) ? null : suggestion.distanceKm();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getShortName() {
+        return shortName;
+    }
+
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+}
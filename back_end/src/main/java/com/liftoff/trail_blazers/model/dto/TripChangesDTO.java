@@ -0,0 +1,41 @@
+package com.liftoff.trail_blazers.model.dto;
+
+import com.liftoff.trail_blazers.model.Trips;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of /trips/changes/{userName}. When reset is true the client drops its copy and replaces it
+ * with upserts (its token was missing or older than the compacted part of the log).
+ */
+public class TripChangesDTO {
+
+    private long token;
+    private boolean reset;
+    private List<Trips> upserts = new ArrayList<>();
+    private List<Integer> deletes = new ArrayList<>();
+
+    public TripChangesDTO(long token, boolean reset) {
+        this.token = token;
+        this.reset = reset;
+    }
+
+    public TripChangesDTO(){}
+
+    public long getToken() {
+        return token;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public List<Trips> getUpserts() {
+        return upserts;
+    }
+
+    public List<Integer> getDeletes() {
+        return deletes;
+    }
+}
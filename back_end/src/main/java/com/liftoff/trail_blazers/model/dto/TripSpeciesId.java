@@ -0,0 +1,11 @@
+package com.liftoff.trail_blazers.model.dto;
+
+/**
+ * Projection of one row of a Trips ManyToMany join table (trip id, plant or fauna id).
+ */
+public interface TripSpeciesId {
+
+    int getTripId();
+
+    int getSpeciesId();
+}
@@ -11,6 +11,7 @@ public class TripsFPDTO {
 
     private String tripName;
     private String location;
+    private Integer parkId;
 
     @JsonFormat(pattern="yyyy-MM-dd")
     private Date date;
@@ -37,6 +38,14 @@ public class TripsFPDTO {
         this.location = location;
     }
 
+    public Integer getParkId() {
+        return parkId;
+    }
+
+    public void setParkId(Integer parkId) {
+        this.parkId = parkId;
+    }
+
     public Date getDate() {
         return date;
     }
@@ -0,0 +1,75 @@
+package com.liftoff.trail_blazers.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.liftoff.trail_blazers.model.Trips;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Trip payload for view=slim: species are sent as ids only and hydrated by the client through
+ * /plants?ids= and /animals?ids=.
+ */
+public class TripsSlimDTO {
+
+    private int id;
+    private String tripName;
+    private String location;
+    private Integer parkId;
+
+    @JsonFormat(pattern="yyyy-MM-dd")
+    private Date date;
+    private String notes;
+    private String userName;
+    private List<Integer> plantIds = new ArrayList<>();
+    private List<Integer> faunaIds = new ArrayList<>();
+
+    public TripsSlimDTO(){}
+
+    public TripsSlimDTO(Trips trips) {
+        this.id = trips.getId();
+        this.tripName = trips.getTripName();
+        this.location = trips.getLocation();
+        this.parkId = trips.getParkId();
+        this.date = trips.getDate();
+        this.notes = trips.getNotes();
+        this.userName = trips.getUserName();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTripName() {
+        return tripName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Integer getParkId() {
+        return parkId;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public List<Integer> getPlantIds() {
+        return plantIds;
+    }
+
+    public List<Integer> getFaunaIds() {
+        return faunaIds;
+    }
+}
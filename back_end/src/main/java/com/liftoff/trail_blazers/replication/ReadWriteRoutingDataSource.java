@@ -0,0 +1,100 @@
+package com.liftoff.trail_blazers.replication;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary. A replica is only
+ * picked while its last seen heartbeat is within the lag bound and newer than the caller's
+ * {@link ReplicaReads} floor; otherwise the read falls back to the primary.
+ *
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * LazyConnectionDataSourceProxy that defers fetching the connection to the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> pools;
+    private final List<String> replicas;
+    private final long maxLagMs;
+    private final Map<String, Long> caughtUpTo = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagMs) {
+        this.pools = new LinkedHashMap<>();
+        this.pools.put(PRIMARY, primary);
+        this.pools.putAll(replicas);
+        this.replicas = List.copyOf(replicas.keySet());
+        this.maxLagMs = maxLagMs;
+        setTargetDataSources(new LinkedHashMap<>(pools));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public DataSource primary() {
+        return pools.get(PRIMARY);
+    }
+
+    public List<String> replicas() {
+        return replicas;
+    }
+
+    public DataSource replica(String name) {
+        DataSource dataSource = pools.get(name);
+        if (dataSource == null || PRIMARY.equals(name)) {
+            throw new IllegalArgumentException("Unknown replica " + name);
+        }
+        return dataSource;
+    }
+
+    /** Records the newest primary heartbeat the replica has applied. */
+    void caughtUp(String replica, long heartbeat) {
+        caughtUpTo.put(replica, heartbeat);
+    }
+
+    /** Takes the replica out of rotation until its next successful heartbeat read. */
+    void unavailable(String replica) {
+        caughtUpTo.remove(replica);
+    }
+
+    /** A replica fresh enough to read from, or null when only the primary qualifies. */
+    String pickReplica(long notBefore) {
+        long oldestAllowed = System.currentTimeMillis() - maxLagMs;
+        int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            String replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            Long heartbeat = caughtUpTo.get(replica);
+            if (heartbeat != null && heartbeat >= oldestAllowed && heartbeat > notBefore) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /** Closes every pool; called as the bean's inferred destroy method. */
+    public void close() throws Exception {
+        for (DataSource dataSource : pools.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        String replica = pickReplica(ReplicaReads.notBefore());
+        return replica != null ? replica : PRIMARY;
+    }
+}
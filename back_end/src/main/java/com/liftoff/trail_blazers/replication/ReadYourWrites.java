@@ -0,0 +1,56 @@
+package com.liftoff.trail_blazers.replication;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes for trips when replicas are enabled. The commit time of each user's latest trip
+ * write is kept, and that user's reads only use a replica whose heartbeat is newer, i.e. one that
+ * has applied the write. Anything older than the lag bound is met by every replica still in
+ * rotation and is dropped. The times live in this JVM, so several backend instances need sticky
+ * sessions per user.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    @Value("${db.replicas.enabled:false}")
+    private boolean enabled;
+
+    @Value("${db.replicas.max-lag-ms:2000}")
+    private long maxLagMs;
+
+    /** Call inside the writing transaction; the write counts from the moment it commits. */
+    public void recordWrite(String userName) {
+        if (!enabled || userName == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(userName, System.currentTimeMillis());
+            }
+        });
+    }
+
+    /** Runs a read for the user; bind it before the read-only transaction starts. */
+    public <T> T read(String userName, Supplier<T> work) {
+        Long lastWrite = enabled && userName != null ? lastWrites.get(userName) : null;
+        return lastWrite == null ? work.get() : ReplicaReads.notBefore(lastWrite, work);
+    }
+
+    long maxLagMs() {
+        return maxLagMs;
+    }
+
+    void forgetWritesBefore(long timestamp) {
+        lastWrites.values().removeIf(lastWrite -> lastWrite < timestamp);
+    }
+}
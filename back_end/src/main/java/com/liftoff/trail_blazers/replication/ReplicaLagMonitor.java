@@ -0,0 +1,77 @@
+package com.liftoff.trail_blazers.replication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures replica lag with a heartbeat row: each tick stamps the current time into
+ * replication_heartbeat on the primary and reads the replicated value back from every replica.
+ * The value a replica returns is the primary time it has caught up to; unreachable replicas are
+ * taken out of rotation until they answer again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "db.replicas", name = "enabled", havingValue = "true")
+@Lazy(false)
+public class ReplicaLagMonitor implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReadWriteRoutingDataSource routing;
+    private final ReadYourWrites readYourWrites;
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Set<String> unavailable = ConcurrentHashMap.newKeySet();
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routing, ReadYourWrites readYourWrites) {
+        this.routing = routing;
+        this.readYourWrites = readYourWrites;
+        this.primary = new JdbcTemplate(routing.primary());
+        for (String replica : routing.replicas()) {
+            replicas.put(replica, new JdbcTemplate(routing.replica(replica)));
+        }
+    }
+
+    // Runs before scheduling starts, so the first beat always finds the row.
+    @Override
+    public void afterSingletonsInstantiated() {
+        primary.execute("create table if not exists replication_heartbeat (id int primary key, beat bigint not null)");
+        Integer rows = primary.queryForObject("select count(*) from replication_heartbeat where id = 1", Integer.class);
+        if (rows == null || rows == 0) {
+            primary.update("insert into replication_heartbeat (id, beat) values (1, ?)", System.currentTimeMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${db.replicas.heartbeat-interval-ms:500}")
+    public void beat() {
+        long now = System.currentTimeMillis();
+        primary.update("update replication_heartbeat set beat = ? where id = 1", now);
+        readYourWrites.forgetWritesBefore(now - readYourWrites.maxLagMs());
+
+        replicas.forEach((name, replica) -> {
+            try {
+                Long heartbeat = replica.queryForObject("select beat from replication_heartbeat where id = 1", Long.class);
+                routing.caughtUp(name, heartbeat == null ? 0 : heartbeat);
+                if (unavailable.remove(name)) {
+                    log.info("Replica {} is back in rotation", name);
+                }
+            } catch (DataAccessException e) {
+                routing.unavailable(name);
+                if (unavailable.add(name)) {
+                    log.warn("Replica {} is unreachable; reads go to the primary until it answers: {}", name, e.getMessage());
+                }
+            }
+        });
+    }
+}
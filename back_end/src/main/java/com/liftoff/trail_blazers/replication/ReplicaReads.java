@@ -0,0 +1,47 @@
+package com.liftoff.trail_blazers.replication;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread floor on how fresh a replica must be to serve the current read-only transaction:
+ * only replicas caught up past {@code notBefore} (a primary heartbeat timestamp) qualify. Like the
+ * shard context, it has to be bound before the transaction starts.
+ */
+public final class ReplicaReads {
+
+    private static final ThreadLocal<Long> NOT_BEFORE = new ThreadLocal<>();
+
+    private ReplicaReads() {}
+
+    static long notBefore() {
+        Long notBefore = NOT_BEFORE.get();
+        return notBefore == null ? 0 : notBefore;
+    }
+
+    public static <T> T notBefore(long timestamp, Supplier<T> work) {
+        Long previous = NOT_BEFORE.get();
+        NOT_BEFORE.set(previous == null ? timestamp : Math.max(previous, timestamp));
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                NOT_BEFORE.remove();
+            } else {
+                NOT_BEFORE.set(previous);
+            }
+        }
+    }
+
+    /** Runs the work with every read on the primary, e.g. check-then-write sequences. */
+    public static void onPrimary(Runnable work) {
+        fromPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** Reads from the primary, for results that get cached and must not come from a lagging replica. */
+    public static <T> T fromPrimary(Supplier<T> work) {
+        return notBefore(Long.MAX_VALUE, work);
+    }
+}
@@ -0,0 +1,203 @@
+package com.liftoff.trail_blazers.sharding;
+
+import com.liftoff.trail_blazers.config.CatalogSeededEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mirrors the catalog tables of the default shard on every other shard, so trips can reference
+ * plants and fauna by id wherever they live. Rows keep their original ids: missing ones are
+ * inserted, changed ones updated and ones the default shard no longer has are deleted, all in one
+ * transaction per shard. The copies are never written to by the application.
+ */
+@Component
+@ConditionalOnProperty(prefix = "trips.sharding", name = "enabled", havingValue = "true")
+public class CatalogReplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogReplicator.class);
+
+    // Parents before children: trailheads reference geolocations.
+    static final List<String> CATALOG_TABLES = List.of("fauna", "plants", "geolocations", "trailheads");
+    private static final int BATCH_SIZE = 500;
+
+    private final ShardRouter shardRouter;
+    private final ShardRoutingDataSource dataSource;
+
+    public CatalogReplicator(ShardRouter shardRouter, ShardRoutingDataSource dataSource) {
+        this.shardRouter = shardRouter;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(CatalogSeededEvent.class)
+    public void onCatalogSeeded() {
+        replicate();
+    }
+
+    /** Returns the number of rows inserted, updated or deleted across all shards. */
+    public synchronized int replicate() {
+        JdbcTemplate source = new JdbcTemplate(dataSource.shard(shardRouter.defaultShard()));
+        List<CatalogTable> tables = new ArrayList<>(CATALOG_TABLES.size());
+        for (String table : CATALOG_TABLES) {
+            tables.add(CatalogTable.read(source, table));
+        }
+
+        int changed = 0;
+        for (String shard : shardRouter.shards()) {
+            if (shard.equals(shardRouter.defaultShard())) {
+                continue;
+            }
+            try {
+                changed += mirror(dataSource.shard(shard), tables);
+            } catch (DataAccessException e) {
+                // e.g. trips on that shard still reference a removed plant; the shard keeps its previous copy.
+                log.error("Could not replicate the catalog to shard {}", shard, e);
+            }
+        }
+        log.info("Replicated catalog to {} shard(s): {} rows changed", shardRouter.shards().size() - 1, changed);
+        return changed;
+    }
+
+    private static int mirror(DataSource shard, List<CatalogTable> tables) {
+        JdbcTemplate target = new JdbcTemplate(shard);
+        Integer changed = new TransactionTemplate(new DataSourceTransactionManager(shard)).execute(status -> {
+            int rows = 0;
+            for (CatalogTable table : tables) {
+                rows += upsert(target, table);
+            }
+            // Children before parents, so a removed park's trailheads go first.
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                rows += deleteRemoved(target, tables.get(i));
+            }
+            return rows;
+        });
+        return changed == null ? 0 : changed;
+    }
+
+    private static int upsert(JdbcTemplate target, CatalogTable table) {
+        Map<Integer, Object[]> existing = new HashMap<>();
+        target.query("select " + String.join(", ", table.columns()) + " from " + table.name(), row -> {
+            Object[] values = CatalogTable.values(row, table.columns().size());
+            existing.put(((Number) values[table.idIndex()]).intValue(), values);
+        });
+
+        List<String> assignments = new ArrayList<>();
+        for (String column : table.columns()) {
+            if (!column.equalsIgnoreCase("id")) {
+                assignments.add(column + " = ?");
+            }
+        }
+        String insert = "insert into " + table.name() + " (" + String.join(", ", table.columns()) + ") values ("
+                + String.join(", ", Collections.nCopies(table.columns().size(), "?")) + ")";
+        String update = "update " + table.name() + " set " + String.join(", ", assignments) + " where id = ?";
+
+        List<Object[]> inserts = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> updates = new ArrayList<>(BATCH_SIZE);
+        int changed = 0;
+        for (Map.Entry<Integer, Object[]> row : table.rows().entrySet()) {
+            Object[] current = existing.get(row.getKey());
+            if (current == null) {
+                inserts.add(row.getValue());
+                if (inserts.size() == BATCH_SIZE) {
+                    changed += flush(target, insert, inserts);
+                }
+            } else if (!Arrays.deepEquals(current, row.getValue())) {
+                updates.add(table.updateArguments(row.getValue()));
+                if (updates.size() == BATCH_SIZE) {
+                    changed += flush(target, update, updates);
+                }
+            }
+        }
+        return changed + flush(target, insert, inserts) + flush(target, update, updates);
+    }
+
+    private static int deleteRemoved(JdbcTemplate target, CatalogTable table) {
+        List<Object[]> removed = new ArrayList<>();
+        for (Integer id : target.queryForList("select id from " + table.name(), Integer.class)) {
+            if (!table.rows().containsKey(id)) {
+                removed.add(new Object[] {id});
+            }
+        }
+        return flush(target, "delete from " + table.name() + " where id = ?", removed);
+    }
+
+    private static int flush(JdbcTemplate target, String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        target.batchUpdate(sql, batch);
+        int flushed = batch.size();
+        batch.clear();
+        return flushed;
+    }
+
+    /** One catalog table as read from the default shard, rows keyed by id in source order. */
+    private record CatalogTable(String name, List<String> columns, int idIndex, Map<Integer, Object[]> rows) {
+
+        static CatalogTable read(JdbcTemplate source, String table) {
+            SqlRowSet rowSet = source.queryForRowSet("select * from " + table);
+            SqlRowSetMetaData meta = rowSet.getMetaData();
+            List<String> columns = new ArrayList<>(meta.getColumnCount());
+            int idIndex = -1;
+            for (int column = 1; column <= meta.getColumnCount(); column++) {
+                columns.add(meta.getColumnName(column));
+                if ("id".equalsIgnoreCase(meta.getColumnName(column))) {
+                    idIndex = column - 1;
+                }
+            }
+            if (idIndex < 0) {
+                throw new IllegalStateException("Catalog table " + table + " has no id column");
+            }
+
+            Map<Integer, Object[]> rows = new LinkedHashMap<>();
+            while (rowSet.next()) {
+                Object[] values = new Object[columns.size()];
+                for (int column = 1; column <= columns.size(); column++) {
+                    values[column - 1] = rowSet.getObject(column);
+                }
+                rows.put(((Number) values[idIndex]).intValue(), values);
+            }
+            return new CatalogTable(table, columns, idIndex, rows);
+        }
+
+        static Object[] values(ResultSet row, int columnCount) throws SQLException {
+            Object[] values = new Object[columnCount];
+            for (int column = 1; column <= columnCount; column++) {
+                values[column - 1] = row.getObject(column);
+            }
+            return values;
+        }
+
+        // Every column but id, in order, followed by the id for the where clause.
+        Object[] updateArguments(Object[] values) {
+            Object[] arguments = new Object[values.length];
+            int next = 0;
+            for (int column = 0; column < values.length; column++) {
+                if (column != idIndex) {
+                    arguments[next++] = values[column];
+                }
+            }
+            arguments[next] = values[idIndex];
+            return arguments;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.liftoff.trail_blazers.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the shard the current thread talks to. {@link ShardRoutingDataSource} reads it whenever a
+ * connection is opened, so it has to be bound before the transaction starts.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {}
+
+    /** The bound shard name, or null for the default shard. */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(String shard, Runnable work) {
+        call(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
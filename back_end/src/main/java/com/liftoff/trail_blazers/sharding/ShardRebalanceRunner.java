@@ -0,0 +1,34 @@
+package com.liftoff.trail_blazers.sharding;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-shot mode behind ./gradlew rebalanceShards (trips.sharding.rebalance=true): rebalances ahead
+ * of the other runners, then shuts the application down.
+ */
+@Component
+@ConditionalOnProperty(prefix = "trips.sharding", name = "rebalance", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRebalanceRunner implements ApplicationRunner {
+
+    private final ShardRebalancer shardRebalancer;
+    private final ConfigurableApplicationContext context;
+
+    public ShardRebalanceRunner(ShardRebalancer shardRebalancer, ConfigurableApplicationContext context) {
+        this.shardRebalancer = shardRebalancer;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        shardRebalancer.rebalance();
+        System.exit(SpringApplication.exit(context));
+    }
+}
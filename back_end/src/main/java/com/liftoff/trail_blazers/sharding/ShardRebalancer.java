@@ -0,0 +1,186 @@
+package com.liftoff.trail_blazers.sharding;
+
+import com.liftoff.trail_blazers.data.FaunaRepository;
+import com.liftoff.trail_blazers.data.PlantsRepository;
+import com.liftoff.trail_blazers.data.TripChangeRepository;
+import com.liftoff.trail_blazers.data.TripSyncCursorRepository;
+import com.liftoff.trail_blazers.data.TripsRepository;
+import com.liftoff.trail_blazers.model.AbstractEntity;
+import com.liftoff.trail_blazers.model.Trips;
+import com.liftoff.trail_blazers.model.TripSyncCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Moves every user whose trips sit on a shard the ring no longer maps them to. After adding a
+ * shard to trips.sharding.shards, run it once (./gradlew rebalanceShards) with the application
+ * stopped: only the users that hash onto the new shard move.
+ *
+ * A moved user's trips get new ids on the target shard, so their sync cursor is advanced and marked
+ * compacted there; clients holding an old token receive a full reset on their next /changes call.
+ *
+ * Moves are resumable. Before copying, the source shard gets a row in trip_shard_move naming the move;
+ * the target records the same move id in the transaction that copies the trips, and the source drops
+ * the trips together with its row. A run that dies part-way is finished by the next one, towards the
+ * shard it had picked, without copying anything twice.
+ */
+@Component
+@ConditionalOnProperty(prefix = "trips.sharding", name = "enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    static final String MOVE_TABLE = "trip_shard_move";
+
+    private final ShardRouter shardRouter;
+    private final TripShards tripShards;
+    private final CatalogReplicator catalogReplicator;
+    private final TripsRepository tripsRepository;
+    private final TripSyncCursorRepository tripSyncCursorRepository;
+    private final TripChangeRepository tripChangeRepository;
+    private final PlantsRepository plantsRepository;
+    private final FaunaRepository faunaRepository;
+    private final JdbcTemplate jdbc;
+
+    public ShardRebalancer(ShardRouter shardRouter,
+                           TripShards tripShards,
+                           CatalogReplicator catalogReplicator,
+                           TripsRepository tripsRepository,
+                           TripSyncCursorRepository tripSyncCursorRepository,
+                           TripChangeRepository tripChangeRepository,
+                           PlantsRepository plantsRepository,
+                           FaunaRepository faunaRepository,
+                           ShardRoutingDataSource dataSource) {
+        this.shardRouter = shardRouter;
+        this.tripShards = tripShards;
+        this.catalogReplicator = catalogReplicator;
+        this.tripsRepository = tripsRepository;
+        this.tripSyncCursorRepository = tripSyncCursorRepository;
+        this.tripChangeRepository = tripChangeRepository;
+        this.plantsRepository = plantsRepository;
+        this.faunaRepository = faunaRepository;
+        // Bound to the routing data source, so it joins the inShard transaction on the selected shard.
+        this.jdbc = new JdbcTemplate(dataSource);
+    }
+
+    /** Returns the number of users moved. */
+    public int rebalance() {
+        // A new shard needs the catalog before trips referencing it can be copied over.
+        catalogReplicator.replicate();
+        for (String shard : shardRouter.shards()) {
+            tripShards.inShard(shard, false, () -> {
+                jdbc.execute("create table if not exists " + MOVE_TABLE + " (move_id varchar(36) primary key, "
+                        + "user_name varchar(255) not null, from_shard varchar(255) not null, to_shard varchar(255) not null)");
+                return null;
+            });
+        }
+
+        int moved = 0;
+        // Moves an earlier run left unfinished come first, so the ring scan below sees where the user is now.
+        for (String shard : shardRouter.shards()) {
+            for (PendingMove pending : tripShards.inShard(shard, true, () -> pendingMoves(shard))) {
+                move(pending.userName(), shard, pending.toShard(), pending.moveId());
+                moved++;
+            }
+        }
+        for (String shard : shardRouter.shards()) {
+            for (String userName : tripShards.inShard(shard, true, this::userNames)) {
+                String owner = shardRouter.shardFor(userName);
+                if (!owner.equals(shard)) {
+                    String moveId = UUID.randomUUID().toString();
+                    tripShards.inShard(shard, false, () -> jdbc.update("insert into " + MOVE_TABLE
+                            + " (move_id, user_name, from_shard, to_shard) values (?, ?, ?, ?)", moveId, userName, shard, owner));
+                    move(userName, shard, owner, moveId);
+                    moved++;
+                }
+            }
+        }
+        log.info("Rebalanced trips: moved {} user(s) across {} shard(s)", moved, shardRouter.shards().size());
+        return moved;
+    }
+
+    private Set<String> userNames() {
+        Set<String> userNames = new TreeSet<>(tripsRepository.findDistinctUserNames());
+        for (TripSyncCursor cursor : tripSyncCursorRepository.findAll()) {
+            userNames.add(cursor.getUserName());
+        }
+        return userNames;
+    }
+
+    // Rows on a shard whose from_shard is another shard are the target side of a move, not pending ones.
+    private List<PendingMove> pendingMoves(String shard) {
+        return jdbc.query("select move_id, user_name, to_shard from " + MOVE_TABLE + " where from_shard = ?",
+                (row, rowNum) -> new PendingMove(row.getString("move_id"), row.getString("user_name"), row.getString("to_shard")),
+                shard);
+    }
+
+    // The source's move row must exist before this runs. Each step commits on its own shard and can be
+    // repeated: the copy is skipped once the target holds the move id.
+    private void move(String userName, String from, String to, String moveId) {
+        List<TripCopy> trips = tripShards.inShard(from, true, () ->
+                tripsRepository.findByUserName(userName).stream().map(TripCopy::of).toList());
+        long lastSeq = tripShards.inShard(from, true, () ->
+                tripSyncCursorRepository.findByUserName(userName).map(TripSyncCursor::getLastSeq).orElse(0L));
+
+        boolean copied = tripShards.inShard(to, false, () -> {
+            Integer done = jdbc.queryForObject("select count(*) from " + MOVE_TABLE + " where move_id = ?",
+                    Integer.class, moveId);
+            if (done != null && done > 0) {
+                return false;
+            }
+            for (TripCopy trip : trips) {
+                Trips copy = new Trips(trip.tripName(), trip.location(), trip.date(), trip.notes(),
+                        new ArrayList<>(trip.plantIds().stream().map(plantsRepository::getReferenceById).toList()),
+                        new ArrayList<>(trip.faunaIds().stream().map(faunaRepository::getReferenceById).toList()),
+                        userName);
+                copy.setParkId(trip.parkId());
+                tripsRepository.save(copy);
+            }
+            TripSyncCursor cursor = tripSyncCursorRepository.findByUserName(userName)
+                    .orElseGet(() -> new TripSyncCursor(userName));
+            long head = Math.max(cursor.getLastSeq(), lastSeq) + 1;
+            cursor.setLastSeq(head);
+            cursor.setCompactedThrough(head);
+            tripSyncCursorRepository.save(cursor);
+            jdbc.update("insert into " + MOVE_TABLE + " (move_id, user_name, from_shard, to_shard) values (?, ?, ?, ?)",
+                    moveId, userName, from, to);
+            return true;
+        });
+
+        tripShards.inShard(from, false, () -> {
+            tripsRepository.deleteAll(tripsRepository.findByUserName(userName));
+            tripChangeRepository.deleteThrough(userName, Long.MAX_VALUE);
+            tripSyncCursorRepository.findByUserName(userName).ifPresent(tripSyncCursorRepository::delete);
+            return jdbc.update("delete from " + MOVE_TABLE + " where move_id = ?", moveId);
+        });
+        // Only bookkeeping is left on the target; a row that survives a failure here is never matched again.
+        tripShards.inShard(to, false, () -> jdbc.update("delete from " + MOVE_TABLE + " where move_id = ?", moveId));
+        if (copied) {
+            log.info("Moved {} trip(s) of {} from shard {} to {}", trips.size(), userName, from, to);
+        } else {
+            log.info("Finished moving {} from shard {} to {}; its trips were already copied", userName, from, to);
+        }
+    }
+
+    private record PendingMove(String moveId, String userName, String toShard) {}
+
+    private record TripCopy(String tripName, String location, Integer parkId, Date date, String notes,
+                            List<Integer> plantIds, List<Integer> faunaIds) {
+
+        static TripCopy of(Trips trip) {
+            return new TripCopy(trip.getTripName(), trip.getLocation(), trip.getParkId(), trip.getDate(),
+                    trip.getNotes(), trip.getPlants().stream().map(AbstractEntity::getId).toList(),
+                    trip.getFauna().stream().map(AbstractEntity::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.liftoff.trail_blazers.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring over the shard names. Each shard owns {@code virtualNodes} points on the
+ * ring and a userName belongs to the first point at or after its hash, so adding a shard only moves
+ * the users that land on the new shard's points (about 1/N of them).
+ */
+public class ShardRouter {
+
+    private final List<String> shards;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ShardRouter(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : this.shards) {
+            for (int node = 0; node < virtualNodes; node++) {
+                // A (rare) point collision keeps the first shard's claim so the ring stays deterministic.
+                ring.putIfAbsent(hash(shard + "#" + node), shard);
+            }
+        }
+    }
+
+    public String shardFor(String userName) {
+        Map.Entry<Long, String> point = ring.ceilingEntry(hash(userName));
+        return point != null ? point.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    /** The first configured shard; it holds the catalog tables the others are replicated from. */
+    public String defaultShard() {
+        return shards.get(0);
+    }
+
+    static long hash(String key) {
+        byte[] digest = md5().digest(key.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is required by every JRE", e);
+        }
+    }
+}
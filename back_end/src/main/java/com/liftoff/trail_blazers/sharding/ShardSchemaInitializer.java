@@ -0,0 +1,66 @@
+package com.liftoff.trail_blazers.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * spring.jpa.hibernate.ddl-auto only reaches the default shard, which the routing datasource hands
+ * Hibernate at boot. This creates the mapped tables on every other shard that has none yet, before
+ * scheduled jobs, DataSeeder or any request touch them. Later column changes still have to be
+ * applied by hand.
+ */
+@Component
+@ConditionalOnProperty(prefix = "trips.sharding", name = "enabled", havingValue = "true")
+@Lazy(false)
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final ShardRouter shardRouter;
+    private final ShardRoutingDataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ShardSchemaInitializer(ShardRouter shardRouter,
+                                  ShardRoutingDataSource dataSource,
+                                  EntityManagerFactory entityManagerFactory) {
+        this.shardRouter = shardRouter;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String shard : shardRouter.shards()) {
+            if (shard.equals(shardRouter.defaultShard()) || hasTripsTable(shard)) {
+                continue;
+            }
+            log.info("Creating schema on shard {}", shard);
+            ShardContext.run(shard, () ->
+                    entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(true));
+        }
+    }
+
+    private boolean hasTripsTable(String shard) {
+        try (Connection connection = dataSource.shard(shard).getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, null, "%", new String[]{"TABLE"})) {
+            while (tables.next()) {
+                if ("trips".equalsIgnoreCase(tables.getString("TABLE_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read the schema of shard " + shard, e);
+        }
+    }
+}
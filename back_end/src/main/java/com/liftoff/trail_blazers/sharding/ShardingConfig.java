@@ -0,0 +1,55 @@
+package com.liftoff.trail_blazers.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharded mode (trips.sharding.enabled=true): replaces the single spring.datasource pool with one
+ * pool per configured shard behind a {@link ShardRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "trips.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        List<String> names = properties.getShards().stream().map(ShardingProperties.Shard::getName).toList();
+        if (names.stream().distinct().count() != names.size() || names.contains(null)) {
+            throw new IllegalStateException("trips.sharding.shards need unique, non-empty names: " + names);
+        }
+        return new ShardRouter(names, properties.getVirtualNodes());
+    }
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(ShardingProperties properties, ShardRouter shardRouter) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword());
+            // Left unset, the driver is derived from the JDBC url.
+            if (shard.getDriverClassName() != null) {
+                builder.driverClassName(shard.getDriverClassName());
+            }
+            HikariDataSource dataSource = builder.build();
+            dataSource.setPoolName("shard-" + shard.getName());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.put(shard.getName(), dataSource);
+        }
+        return new ShardRoutingDataSource(shards, shardRouter.defaultShard());
+    }
+}
@@ -0,0 +1,73 @@
+package com.liftoff.trail_blazers.sharding;
+
+import com.liftoff.trail_blazers.replication.ReadYourWrites;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs trip work on the owning user's shard. The shard is bound before the transaction begins, since
+ * that is when the connection is taken; @Transactional on a controller would open it too early.
+ * Without sharding every call runs on the single datasource. Reads go through {@link ReadYourWrites}
+ * so they can be served by a replica that already has the user's latest write.
+ */
+@Component
+public class TripShards {
+
+    private final ShardRouter shardRouter;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+
+    public TripShards(ObjectProvider<ShardRouter> shardRouter,
+                      ReadYourWrites readYourWrites,
+                      PlatformTransactionManager transactionManager) {
+        this.shardRouter = shardRouter.getIfAvailable();
+        this.readYourWrites = readYourWrites;
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    public boolean isSharded() {
+        return shardRouter != null;
+    }
+
+    /** The shard that owns the user's trips, or null without sharding. */
+    public String shardFor(String userName) {
+        return shardRouter == null ? null : shardRouter.shardFor(userName);
+    }
+
+    /** Every shard name, or a single null (the only datasource) without sharding. */
+    public List<String> shards() {
+        return shardRouter == null ? Collections.singletonList(null) : shardRouter.shards();
+    }
+
+    public <T> T write(String userName, Supplier<T> work) {
+        return inShard(shardFor(userName), false, work);
+    }
+
+    public <T> T read(String userName, Supplier<T> work) {
+        return readYourWrites.read(userName, () -> inShard(shardFor(userName), true, work));
+    }
+
+    /** Runs the work once per shard, each in its own transaction. */
+    public void forEachShard(Runnable work) {
+        for (String shard : shards()) {
+            inShard(shard, false, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    public <T> T inShard(String shard, boolean readOnlyTransaction, Supplier<T> work) {
+        TransactionTemplate transaction = readOnlyTransaction ? readOnly : readWrite;
+        return ShardContext.call(shard, () -> transaction.execute(status -> work.get()));
+    }
+}
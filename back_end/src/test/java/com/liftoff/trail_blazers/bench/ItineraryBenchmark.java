@@ -0,0 +1,62 @@
+package com.liftoff.trail_blazers.bench;
+
+import com.liftoff.trail_blazers.geo.DistanceMatrix;
+import com.liftoff.trail_blazers.geo.ItineraryOptimizer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * /parks/itinerary optimizer latency across stop counts, over a matrix of 200 random points spread
+ * across Missouri (about twice the real park count). Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class ItineraryBenchmark {
+
+    private static final int POINTS = 200;
+    private static final int[] STOP_COUNTS = {5, 10, 20, 30, 50, 100};
+    private static final int WARM_UP = 50;
+    private static final int RUNS = 200;
+
+    @Test
+    void optimizeLatencyByStopCount() {
+        Random random = new Random(42);
+        int[] ids = new int[POINTS];
+        double[] latitudes = new double[POINTS];
+        double[] longitudes = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            ids[i] = i + 1;
+            latitudes[i] = 36.0 + random.nextDouble() * 4.5;
+            longitudes[i] = -95.7 + random.nextDouble() * 6.6;
+        }
+
+        long buildStart = System.nanoTime();
+        DistanceMatrix matrix = DistanceMatrix.build(ids, latitudes, longitudes);
+        System.out.printf("matrix build (%d points): %.2f ms%n", POINTS, (System.nanoTime() - buildStart) / 1e6);
+
+        System.out.printf("%6s %10s %10s %10s %12s%n", "stops", "p50 ms", "p99 ms", "max ms", "total km");
+        for (int stopCount : STOP_COUNTS) {
+            int[] stops = random.ints(0, POINTS).distinct().limit(stopCount).toArray();
+            double[] startKm = new double[stopCount];
+            for (int i = 0; i < stopCount; i++) {
+                startKm[i] = matrix.kmFrom(38.627, -90.199, stops[i]);
+            }
+
+            for (int i = 0; i < WARM_UP; i++) {
+                ItineraryOptimizer.optimize(matrix, stops, startKm);
+            }
+            double[] millis = new double[RUNS];
+            double totalKm = 0;
+            for (int i = 0; i < RUNS; i++) {
+                long start = System.nanoTime();
+                totalKm = ItineraryOptimizer.optimize(matrix, stops, startKm).totalKm();
+                millis[i] = (System.nanoTime() - start) / 1e6;
+            }
+            Arrays.sort(millis);
+            System.out.printf("%6d %10.3f %10.3f %10.3f %12.1f%n", stopCount,
+                    millis[RUNS / 2], millis[(int) (RUNS * 0.99)], millis[RUNS - 1], totalKm);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.liftoff.trail_blazers.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liftoff.trail_blazers.data.FaunaRepository;
+import com.liftoff.trail_blazers.data.PlantsRepository;
+import com.liftoff.trail_blazers.data.TripsRepository;
+import com.liftoff.trail_blazers.model.Fauna;
+import com.liftoff.trail_blazers.model.Plants;
+import com.liftoff.trail_blazers.model.Trips;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bytes on the wire (identity and gzip) and serialization CPU per format for /animals, /plants and a
+ * large /trips/all/{userName}. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PayloadFormatBenchmark {
+
+    private static final String USER_NAME = "payload-bench";
+    private static final int TRIPS = 500;
+    private static final int SPECIES_PER_TRIP = 8;
+    private static final int SERIALIZE_ROUNDS = 50;
+
+    private static final Map<String, MediaType> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put("json", MediaType.APPLICATION_JSON);
+        FORMATS.put("cbor", MediaType.APPLICATION_CBOR);
+        FORMATS.put("smile", new MediaType("application", "x-jackson-smile"));
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private HttpMessageConverters converters;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TripsRepository tripsRepository;
+    @Autowired
+    private PlantsRepository plantsRepository;
+    @Autowired
+    private FaunaRepository faunaRepository;
+
+    @Test
+    void payloadSizeAndSerializationCost() {
+        seedTrips();
+
+        Map<String, Supplier<Object>> endpoints = new LinkedHashMap<>();
+        endpoints.put("/animals", () -> faunaRepository.findAll());
+        endpoints.put("/plants", () -> plantsRepository.findAll());
+        endpoints.put("/trips/all/" + USER_NAME, () -> {
+            List<Trips> trips = tripsRepository.findByUserName(USER_NAME);
+            trips.forEach(trip -> { trip.getPlants().size(); trip.getFauna().size(); });
+            return trips;
+        });
+
+        System.out.printf("%-28s %-6s %12s %12s %14s%n", "endpoint", "format", "bytes", "gzip bytes", "cpu us/op");
+        for (Map.Entry<String, Supplier<Object>> endpoint : endpoints.entrySet()) {
+            Object payload = transactionTemplate.execute(status -> endpoint.getValue().get());
+            for (Map.Entry<String, MediaType> format : FORMATS.entrySet()) {
+                long identityBytes = wireBytes(endpoint.getKey(), format.getValue(), "identity");
+                long gzipBytes = wireBytes(endpoint.getKey(), format.getValue(), "gzip");
+                double cpuMicros = serializationCpuMicros(mapperFor(format.getValue()), payload);
+                System.out.printf("%-28s %-6s %12d %12d %14.1f%n",
+                        endpoint.getKey(), format.getKey(), identityBytes, gzipBytes, cpuMicros);
+            }
+        }
+    }
+
+    private void seedTrips() {
+        List<Plants> plants = plantsRepository.findAll();
+        List<Fauna> fauna = faunaRepository.findAll();
+        for (int i = 0; i < TRIPS; i++) {
+            Trips trip = new Trips("Trip " + i, "Ha Ha Tonka State Park", new Date(), "benchmark trip",
+                    pick(plants, i), pick(fauna, i), USER_NAME);
+            tripsRepository.save(trip);
+        }
+    }
+
+    private static <T> List<T> pick(List<T> rows, int offset) {
+        List<T> picked = new ArrayList<>();
+        for (int i = 0; i < Math.min(SPECIES_PER_TRIP, rows.size()); i++) {
+            picked.add(rows.get((offset + i * 7) % rows.size()));
+        }
+        return picked;
+    }
+
+    private long wireBytes(String path, MediaType accept, String encoding) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        headers.set(HttpHeaders.ACCEPT_ENCODING, encoding);
+        byte[] body = restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), byte[].class).getBody();
+        return body == null ? 0 : body.length;
+    }
+
+    private ObjectMapper mapperFor(MediaType mediaType) {
+        for (HttpMessageConverter<?> converter : converters.getConverters()) {
+            if (converter instanceof AbstractJackson2HttpMessageConverter jackson
+                    && jackson.getSupportedMediaTypes().contains(mediaType)) {
+                return jackson.getObjectMapper();
+            }
+        }
+        throw new IllegalStateException("No Jackson converter for " + mediaType);
+    }
+
+    private static double serializationCpuMicros(ObjectMapper mapper, Object payload) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        try {
+            for (int i = 0; i < SERIALIZE_ROUNDS; i++) {
+                mapper.writeValueAsBytes(payload);
+            }
+            long start = threads.getCurrentThreadCpuTime();
+            for (int i = 0; i < SERIALIZE_ROUNDS; i++) {
+                mapper.writeValueAsBytes(payload);
+            }
+            return (threads.getCurrentThreadCpuTime() - start) / 1_000.0 / SERIALIZE_ROUNDS;
+        } catch (Exception e) {
+            throw new IllegalStateException("Serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.liftoff.trail_blazers.bench;
+
+import com.liftoff.trail_blazers.geo.PlaceNameTrie;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * /parks/suggest cost per keystroke over 100k synthetic place names spread across Missouri. Each
+ * query types a random name word one character at a time, like a user filling in the location
+ * field. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class PlaceNameTrieBenchmark {
+
+    private static final int PLACES = 100_000;
+    private static final int QUERIES = 20_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final String[] WORDS = {"state", "park", "historic", "site", "trail", "lake", "river", "creek",
+            "bluff", "hollow", "ridge", "spring", "cave", "prairie", "forest", "conservation", "area", "memorial",
+            "battlefield", "mill"};
+
+    @Test
+    void suggestLatencyPerKeystroke() {
+        Random random = new Random(42);
+        int[] ids = new int[PLACES];
+        String[] names = new String[PLACES];
+        String[] shortNames = new String[PLACES];
+        double[] latitudes = new double[PLACES];
+        double[] longitudes = new double[PLACES];
+        for (int i = 0; i < PLACES; i++) {
+            ids[i] = i + 1;
+            names[i] = randomName(random);
+            shortNames[i] = random.nextInt(4) == 0 ? initials(names[i]) : null;
+            latitudes[i] = 36.0 + random.nextDouble() * 4.5;
+            longitudes[i] = -95.7 + random.nextDouble() * 6.6;
+        }
+
+        long buildStart = System.nanoTime();
+        PlaceNameTrie trie = PlaceNameTrie.build(ids, names, shortNames, latitudes, longitudes);
+        System.out.printf("build (%d places): %.0f ms%n", PLACES, (System.nanoTime() - buildStart) / 1e6);
+
+        String[] prefixes = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] words = names[random.nextInt(PLACES)].split(" ");
+            String word = words[random.nextInt(words.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(word.length()));
+        }
+
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            for (String prefix : prefixes) {
+                trie.suggest(prefix, 38.627, -90.199, 10);
+            }
+        }
+
+        double[] micros = new double[QUERIES];
+        long results = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            results += trie.suggest(prefixes[i], 38.627, -90.199, 10).size();
+            micros[i] = (System.nanoTime() - start) / 1e3;
+        }
+        Arrays.sort(micros);
+        System.out.printf("suggest (limit 10, geo-biased): p50 %.1f us, p99 %.1f us, max %.1f us, %.1f results/query%n",
+                micros[QUERIES / 2], micros[(int) (QUERIES * 0.99)], micros[QUERIES - 1], (double) results / QUERIES);
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 4 + random.nextInt(6);
+        name.append((char) ('A' + random.nextInt(26)));
+        for (int i = 1; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(26)));
+        }
+        int words = 1 + random.nextInt(3);
+        for (int i = 0; i < words; i++) {
+            name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.toString();
+    }
+
+    private static String initials(String name) {
+        StringBuilder initials = new StringBuilder();
+        for (String word : name.split(" ")) {
+            initials.append(Character.toUpperCase(word.charAt(0)));
+        }
+        return initials.toString();
+    }
+}
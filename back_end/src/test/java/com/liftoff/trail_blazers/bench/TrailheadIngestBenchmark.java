@@ -0,0 +1,91 @@
+package com.liftoff.trail_blazers.bench;
+
+import com.liftoff.trail_blazers.geo.TrailheadCsv;
+import com.liftoff.trail_blazers.geo.UtmProjection;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.util.Random;
+
+/**
+ * Trailhead ingest throughput at millions of points: CSV read (including the batch UTM projection)
+ * and the projection pass on its own. Rows are generated on the fly so the input never sits in memory.
+ * Run with ./gradlew benchmark (-Dbench.points=N to change the size).
+ */
+@Tag("benchmark")
+class TrailheadIngestBenchmark {
+
+    private static final int POINTS = Integer.getInteger("bench.points", 2_000_000);
+
+    @Test
+    void ingestThroughput() throws Exception {
+        // Warm-up pass so the timed runs measure compiled code.
+        TrailheadCsv.read(new SyntheticTrailsReader(POINTS / 10));
+
+        long start = System.nanoTime();
+        TrailheadCsv.Batch batch = TrailheadCsv.read(new SyntheticTrailsReader(POINTS));
+        double readSeconds = (System.nanoTime() - start) / 1e9;
+
+        Random random = new Random(42);
+        double[] eastings = new double[POINTS];
+        double[] northings = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            eastings[i] = 300_000 + random.nextDouble() * 500_000;
+            northings[i] = 3_990_000 + random.nextDouble() * 500_000;
+        }
+        double[] latitudes = new double[POINTS];
+        double[] longitudes = new double[POINTS];
+        UtmProjection.toWgs84(eastings, northings, null, POINTS, 15, true, latitudes, longitudes);
+        start = System.nanoTime();
+        UtmProjection.toWgs84(eastings, northings, null, POINTS, 15, true, latitudes, longitudes);
+        double projectSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("rows read: %d (skipped %d)%n", batch.size(), batch.skipped());
+        System.out.printf("read + project: %.3f s, %.0f points/s%n", readSeconds, batch.size() / readSeconds);
+        System.out.printf("project only:   %.3f s, %.0f points/s%n", projectSeconds, POINTS / projectSeconds);
+    }
+
+    /** Streams "ID,LOC_NAME,X,Y,PARK_TYPE" rows shaped like the real file, including its bad quoting. */
+    private static final class SyntheticTrailsReader extends Reader {
+        private final int rows;
+        private final Random random = new Random(7);
+        private int row = -1;
+        private String current = "";
+        private int offset;
+
+        private SyntheticTrailsReader(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) {
+            if (offset == current.length()) {
+                if (row >= rows) {
+                    return -1;
+                }
+                current = nextLine();
+                offset = 0;
+            }
+            int count = Math.min(len, current.length() - offset);
+            current.getChars(offset, offset + count, buffer, off);
+            offset += count;
+            return count;
+        }
+
+        private String nextLine() {
+            row++;
+            if (row == 0) {
+                return "ID,LOC_NAME,X,Y,PARK_TYPE\n";
+            }
+            double x = 300_000 + random.nextDouble() * 500_000;
+            double y = 3_990_000 + random.nextDouble() * 500_000;
+            String name = row % 50 == 0 ? "\"Trail \"" + row + "\"\" Loop\"\"" : "\"Trail " + row + "\"";
+            return row + "," + name + "," + x + "," + y + ",\"State Park\"\n";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.liftoff.trail_blazers.controllers;
+
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.geo.ParkDistanceMatrix;
+import com.liftoff.trail_blazers.geo.ParkNameIndex;
+import com.liftoff.trail_blazers.model.Geolocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:geolocations_controller;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "data.seed.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class GeolocationsControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GeolocationsRepository geolocationsRepository;
+    @Autowired
+    private ParkDistanceMatrix parkDistanceMatrix;
+    @Autowired
+    private ParkNameIndex parkNameIndex;
+
+    private String ids;
+
+    @BeforeEach
+    void addParks() {
+        geolocationsRepository.deleteAll();
+        int tonka = geolocationsRepository.save(park("Ha Ha Tonka State Park", 37.9679, -92.7635)).getId();
+        int tableRock = geolocationsRepository.save(park("Table Rock State Park", 36.5817, -93.3107)).getId();
+        ids = tonka + "," + tableRock;
+        parkDistanceMatrix.rebuild();
+        parkNameIndex.invalidate();
+    }
+
+    @Test
+    void itineraryStartsFromAValidPoint() throws Exception {
+        mockMvc.perform(get("/parks/itinerary").param("ids", ids).param("start", "38.627,-90.199"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stops.length()").value(2))
+                .andExpect(jsonPath("$.stops[0].name").value("Ha Ha Tonka State Park"));
+    }
+
+    @Test
+    void itineraryRejectsStartsThatAreNotPlaces() throws Exception {
+        for (String start : new String[]{"NaN,NaN", "Infinity,-90.2", "38.6,1e400", "91,-90.2", "38.6,-180.5", "38.6"}) {
+            mockMvc.perform(get("/parks/itinerary").param("ids", ids).param("start", start))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void suggestionsRankNearbyParksFirst() throws Exception {
+        mockMvc.perform(get("/parks/suggest").param("prefix", "state").param("lat", "36.6437").param("lon", "-93.2185"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Table Rock State Park"));
+    }
+
+    @Test
+    void suggestionsRejectPointsThatAreNotPlaces() throws Exception {
+        String[][] points = {{"Infinity", "-90.2"}, {"38.6", "-Infinity"}, {"NaN", "-90.2"}, {"-90.5", "-90.2"}, {"38.6", "181"}};
+        for (String[] point : points) {
+            mockMvc.perform(get("/parks/suggest").param("prefix", "state").param("lat", point[0]).param("lon", point[1]))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private static Geolocations park(String name, double latitude, double longitude) {
+        Geolocations park = new Geolocations();
+        park.setName(name);
+        park.setLatitude(latitude);
+        park.setLongitude(longitude);
+        return park;
+    }
+}
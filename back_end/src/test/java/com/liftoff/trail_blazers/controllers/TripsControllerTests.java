@@ -0,0 +1,106 @@
+package com.liftoff.trail_blazers.controllers;
+
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.data.TripsRepository;
+import com.liftoff.trail_blazers.model.Geolocations;
+import com.liftoff.trail_blazers.model.Trips;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trips_controller;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "data.seed.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class TripsControllerTests {
+
+    private static final String USER_NAME = "park-hiker";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private GeolocationsRepository geolocationsRepository;
+    @Autowired
+    private TripsRepository tripsRepository;
+
+    private int parkId;
+
+    @BeforeEach
+    void addPark() {
+        tripsRepository.deleteAll();
+        geolocationsRepository.deleteAll();
+        Geolocations park = new Geolocations();
+        park.setName("Ha Ha Tonka State Park");
+        park.setLatitude(37.9679);
+        park.setLongitude(-92.7635);
+        parkId = geolocationsRepository.save(park).getId();
+    }
+
+    @Test
+    void addedTripsStoreTheirPark() throws Exception {
+        addTrip("\"parkId\":" + parkId + ",\"location\":\"typed over\"").andExpect(status().isOk());
+        addTrip("\"location\":\"Ha Ha Tonka State Park\"").andExpect(status().isOk());
+
+        assertThat(tripsRepository.findByUserName(USER_NAME))
+                .extracting(Trips::getParkId, Trips::getLocation)
+                .containsOnly(tuple(parkId, "Ha Ha Tonka State Park"));
+    }
+
+    @Test
+    void addRejectsLocationsThatAreNoPark() throws Exception {
+        addTrip("\"location\":\"Somewhere by the lake\"").andExpect(status().isBadRequest());
+        addTrip("\"parkId\":" + (parkId + 1000) + ",\"location\":\"Ha Ha Tonka State Park\"").andExpect(status().isBadRequest());
+        addTrip("\"location\":null").andExpect(status().isBadRequest());
+
+        assertThat(tripsRepository.findByUserName(USER_NAME)).isEmpty();
+    }
+
+    @Test
+    void updatesKeepAnUnchangedLocationFromBeforeParksWereRequired() throws Exception {
+        Trips legacy = tripsRepository.save(new Trips("Old trip", "Devil's Kitchen Trail", new Date(), "",
+                new ArrayList<>(), new ArrayList<>(), USER_NAME));
+
+        updateTrip(legacy.getId(), "\"location\":\"Devil's Kitchen Trail\",\"notes\":\"edited\"")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.location").value("Devil's Kitchen Trail"))
+                .andExpect(jsonPath("$.notes").value("edited"));
+        updateTrip(legacy.getId(), "\"location\":\"Somewhere else\",\"notes\":\"\"")
+                .andExpect(status().isBadRequest());
+        updateTrip(legacy.getId(), "\"parkId\":" + parkId + ",\"location\":\"Ha Ha Tonka State Park\",\"notes\":\"\"")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parkId").value(parkId));
+    }
+
+    private ResultActions addTrip(String location) throws Exception {
+        return mockMvc.perform(post("/trips/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"tripName":"Trip",%s,"date":"2025-06-01","notes":"","plants":[],"fauna":[],"userName":"%s"}
+                        """.formatted(location, USER_NAME)));
+    }
+
+    private ResultActions updateTrip(int id, String fields) throws Exception {
+        return mockMvc.perform(put("/trips/update/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"tripName":"Trip",%s,"date":"2025-06-01","plants":[],"fauna":[],"userName":"%s"}
+                        """.formatted(fields, USER_NAME)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.liftoff.trail_blazers.data;
+
+import com.liftoff.trail_blazers.model.TripChange;
+import com.liftoff.trail_blazers.model.TripChangeType;
+import com.liftoff.trail_blazers.model.Trips;
+import com.liftoff.trail_blazers.model.dto.TripChangesDTO;
+import com.liftoff.trail_blazers.sharding.TripShards;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "data.seed.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+class TripChangeLogTests {
+
+    @Autowired
+    private TripChangeLog tripChangeLog;
+    @Autowired
+    private TripChangeRepository tripChangeRepository;
+    @Autowired
+    private TripsRepository tripsRepository;
+    @Autowired
+    private TripShards tripShards;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tokensSelectDeltasAndStaleOrUnknownTokensReset() {
+        String userName = "log-tokens";
+        TripChangesDTO empty = tripChangeLog.changesSince(userName, null);
+        assertThat(empty.isReset()).isTrue();
+        assertThat(empty.getToken()).isZero();
+        assertThat(tripChangeLog.currentToken(userName)).isZero();
+
+        int kept = addTrip(userName);
+        int deleted = addTrip(userName);
+        deleteTrip(userName, deleted);
+        assertThat(tripChangeLog.currentToken(userName)).isEqualTo(3);
+
+        TripChangesDTO delta = tripChangeLog.changesSince(userName, 0L);
+        assertThat(delta.isReset()).isFalse();
+        assertThat(delta.getToken()).isEqualTo(3);
+        assertThat(delta.getUpserts()).extracting(Trips::getId).containsExactly(kept);
+        assertThat(delta.getDeletes()).containsExactly(deleted);
+
+        TripChangesDTO upToDate = tripChangeLog.changesSince(userName, 3L);
+        assertThat(upToDate.isReset()).isFalse();
+        assertThat(upToDate.getToken()).isEqualTo(3);
+        assertThat(upToDate.getUpserts()).isEmpty();
+        assertThat(upToDate.getDeletes()).isEmpty();
+
+        TripChangesDTO fromTheFuture = tripChangeLog.changesSince(userName, 4L);
+        assertThat(fromTheFuture.isReset()).isTrue();
+        assertThat(fromTheFuture.getUpserts()).extracting(Trips::getId).containsExactly(kept);
+    }
+
+    @Test
+    void compactionResetsTokensOlderThanWhatItRemoved() {
+        String userName = "log-compaction";
+        int first = addTrip(userName);
+        int second = addTrip(userName);
+        // Past the default 30-day retention.
+        jdbcTemplate.update("update trip_change set changed_at = ? where user_name = ?",
+                new Date(System.currentTimeMillis() - Duration.ofDays(31).toMillis()), userName);
+
+        tripChangeLog.compact();
+
+        assertThat(tripChangeRepository.findByUserNameAndSeqGreaterThanOrderBySeq(userName, 0)).isEmpty();
+        TripChangesDTO stale = tripChangeLog.changesSince(userName, 1L);
+        assertThat(stale.isReset()).isTrue();
+        assertThat(stale.getToken()).isEqualTo(2);
+        assertThat(stale.getUpserts()).extracting(Trips::getId).containsExactlyInAnyOrder(first, second);
+
+        TripChangesDTO current = tripChangeLog.changesSince(userName, 2L);
+        assertThat(current.isReset()).isFalse();
+        assertThat(current.getUpserts()).isEmpty();
+
+        addTrip(userName);
+        assertThat(tripChangeLog.changesSince(userName, 2L).getUpserts()).hasSize(1);
+    }
+
+    @Test
+    void concurrentFirstWritesOfAUserGetDistinctSeqs() throws Exception {
+        String userName = "log-first-writes";
+        int writers = 8;
+        CyclicBarrier start = new CyclicBarrier(writers);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await(10, TimeUnit.SECONDS);
+                    return addTrip(userName);
+                }));
+            }
+            for (Future<Integer> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(tripChangeLog.currentToken(userName)).isEqualTo(writers);
+        assertThat(tripChangeRepository.findByUserNameAndSeqGreaterThanOrderBySeq(userName, 0))
+                .extracting(TripChange::getSeq)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+    }
+
+    private int addTrip(String userName) {
+        return tripShards.write(userName, () -> {
+            Trips trip = tripsRepository.save(new Trips("Trip", "Ha Ha Tonka State Park", new Date(), "notes",
+                    new ArrayList<>(), new ArrayList<>(), userName));
+            tripChangeLog.record(userName, trip.getId(), TripChangeType.UPSERT);
+            return trip.getId();
+        });
+    }
+
+    private void deleteTrip(String userName, int tripId) {
+        tripShards.write(userName, () -> {
+            tripsRepository.deleteById(tripId);
+            tripChangeLog.record(userName, tripId, TripChangeType.DELETE);
+            return null;
+        });
+    }
+}
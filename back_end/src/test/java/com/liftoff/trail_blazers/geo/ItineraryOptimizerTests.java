@@ -0,0 +1,92 @@
+package com.liftoff.trail_blazers.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ItineraryOptimizerTests {
+
+    // Itineraries of up to 10 stops are solved exactly, so this holds for any instance, not just these seeds.
+    @Test
+    void matchesBruteForceOnSmallItineraries() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Random random = new Random(seed);
+            DistanceMatrix matrix = randomMatrix(random, 60);
+
+            for (int round = 0; round < 40; round++) {
+                int[] stops = random.ints(0, 60).distinct().limit(2 + random.nextInt(8)).toArray();
+                double[] startKm = round % 2 == 1 ? startKm(matrix, stops) : null;
+
+                ItineraryOptimizer.Itinerary itinerary = ItineraryOptimizer.optimize(matrix, stops, startKm);
+
+                assertVisitsEachStopOnce(itinerary, stops);
+                assertThat(itinerary.totalKm()).isCloseTo(bruteForce(matrix, stops, startKm), within(1e-3));
+            }
+        }
+    }
+
+    @Test
+    void longItinerariesVisitEveryStopOnce() {
+        Random random = new Random(7);
+        DistanceMatrix matrix = randomMatrix(random, 120);
+        for (int size : new int[] {11, 40, 100}) {
+            int[] stops = random.ints(0, 120).distinct().limit(size).toArray();
+            assertVisitsEachStopOnce(ItineraryOptimizer.optimize(matrix, stops, startKm(matrix, stops)), stops);
+            assertVisitsEachStopOnce(ItineraryOptimizer.optimize(matrix, stops, null), stops);
+        }
+    }
+
+    private static DistanceMatrix randomMatrix(Random random, int points) {
+        int[] ids = new int[points];
+        double[] latitudes = new double[points];
+        double[] longitudes = new double[points];
+        for (int i = 0; i < points; i++) {
+            ids[i] = i + 1;
+            latitudes[i] = 36.0 + random.nextDouble() * 4.5;
+            longitudes[i] = -95.7 + random.nextDouble() * 6.6;
+        }
+        return DistanceMatrix.build(ids, latitudes, longitudes);
+    }
+
+    private static double[] startKm(DistanceMatrix matrix, int[] stops) {
+        double[] startKm = new double[stops.length];
+        for (int i = 0; i < stops.length; i++) {
+            startKm[i] = matrix.kmFrom(38.627, -90.199, stops[i]);
+        }
+        return startKm;
+    }
+
+    private static void assertVisitsEachStopOnce(ItineraryOptimizer.Itinerary itinerary, int[] stops) {
+        assertThat(Arrays.stream(itinerary.order()).sorted().toArray())
+                .isEqualTo(Arrays.stream(stops).sorted().toArray());
+        assertThat(itinerary.totalKm()).isCloseTo(Arrays.stream(itinerary.legKm()).sum(), within(1e-6));
+    }
+
+    private static double bruteForce(DistanceMatrix matrix, int[] stops, double[] startKm) {
+        return search(matrix, stops, startKm, new boolean[stops.length], -1, 0, 0, Double.MAX_VALUE);
+    }
+
+    private static double search(DistanceMatrix matrix, int[] stops, double[] startKm, boolean[] used,
+                                 int last, int depth, double cost, double best) {
+        if (cost >= best) {
+            return best;
+        }
+        if (depth == stops.length) {
+            return cost;
+        }
+        for (int i = 0; i < stops.length; i++) {
+            if (used[i]) {
+                continue;
+            }
+            double leg = last < 0 ? (startKm == null ? 0 : startKm[i]) : matrix.km(stops[last], stops[i]);
+            used[i] = true;
+            best = search(matrix, stops, startKm, used, i, depth + 1, cost + leg, best);
+            used[i] = false;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,145 @@
+package com.liftoff.trail_blazers.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PlaceNameTrieTests {
+
+    private static final int[] IDS = {1, 2, 3, 4, 5};
+    private static final String[] NAMES = {"Ha Ha Tonka State Park", "Table Rock State Park",
+            "Elephant Rocks State Park", "Rock Bridge Memorial State Park", "Bennett Spring State Park"};
+    private static final String[] SHORT_NAMES = {"HHT", null, "", "RBMSP", null};
+    private static final double[] LATITUDES = {37.9679, 36.5817, 37.6545, 38.8833, 37.7162};
+    private static final double[] LONGITUDES = {-92.7635, -93.3107, -90.6889, -92.3224, -92.8563};
+
+    private final PlaceNameTrie trie = PlaceNameTrie.build(IDS, NAMES, SHORT_NAMES, LATITUDES, LONGITUDES);
+
+    @Test
+    void matchesAnyWordOfTheNameOrShortName() {
+        assertThat(names(trie.suggest("Tonka", Double.NaN, Double.NaN, 5))).containsExactly("Ha Ha Tonka State Park");
+        assertThat(names(trie.suggest("ha ha t", Double.NaN, Double.NaN, 5))).containsExactly("Ha Ha Tonka State Park");
+        assertThat(names(trie.suggest("rbm", Double.NaN, Double.NaN, 5))).containsExactly("Rock Bridge Memorial State Park");
+        assertThat(names(trie.suggest("  BENNETT-spr", Double.NaN, Double.NaN, 5))).containsExactly("Bennett Spring State Park");
+        assertThat(trie.suggest("yellowstone", Double.NaN, Double.NaN, 5)).isEmpty();
+        assertThat(trie.suggest("", Double.NaN, Double.NaN, 5)).isEmpty();
+    }
+
+    @Test
+    void ranksNameStartsAndWholeWordsFirst() {
+        // "Rock Bridge" starts with the prefix, "Table Rock" has it as a whole later word,
+        // and "Elephant Rocks" only as part of one.
+        assertThat(names(trie.suggest("rock", Double.NaN, Double.NaN, 5))).containsExactly(
+                "Rock Bridge Memorial State Park", "Table Rock State Park", "Elephant Rocks State Park");
+    }
+
+    @Test
+    void distanceReordersComparableMatches() {
+        // Every park has "state" as a later word; from St. Louis, Elephant Rocks is closest...
+        List<PlaceNameTrie.Suggestion> fromStLouis = trie.suggest("state", 38.627, -90.199, 5);
+        assertThat(fromStLouis.get(0).name()).isEqualTo("Elephant Rocks State Park");
+        assertThat(fromStLouis).isSortedAccordingTo(Comparator.comparingDouble(PlaceNameTrie.Suggestion::score).reversed());
+        // ...and from Branson it is Table Rock.
+        assertThat(trie.suggest("state", 36.6437, -93.2185, 5).get(0).name()).isEqualTo("Table Rock State Park");
+    }
+
+    @Test
+    void matchesAScanOfEveryNameOnLargeIndexes() {
+        Random random = new Random(3);
+        int count = 5000;
+        int[] ids = new int[count];
+        String[] names = new String[count];
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = i;
+            names[i] = (char) ('a' + random.nextInt(3)) + Integer.toString(random.nextInt(100_000), 36) + " park";
+            latitudes[i] = 36.0 + random.nextDouble() * 4.5;
+            longitudes[i] = -95.7 + random.nextDouble() * 6.6;
+        }
+        PlaceNameTrie large = PlaceNameTrie.build(ids, names, new String[count], latitudes, longitudes);
+
+        for (String prefix : List.of("a1", "b2", "cz", "a1x", "c")) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                if (names[i].startsWith(prefix)) {
+                    expected.add(ids[i]);
+                }
+            }
+            List<PlaceNameTrie.Suggestion> suggestions = large.suggest(prefix, Double.NaN, Double.NaN, count);
+            if (expected.size() <= PlaceNameTrie.SCAN_LIMIT) {
+                assertThat(suggestions).extracting(PlaceNameTrie.Suggestion::id).containsExactlyInAnyOrderElementsOf(expected);
+            } else {
+                // Without a location, oversized nodes only score their precomputed best matches.
+                assertThat(suggestions).hasSize(PlaceNameTrie.SCAN_LIMIT);
+                assertThat(suggestions).extracting(PlaceNameTrie.Suggestion::id).isSubsetOf(expected);
+            }
+        }
+
+        // With one, every node ranks exactly like a scan of all names; the last caller is outside
+        // every place's bounding box.
+        double[][] callers = {{38.627, -90.199}, {37.2, -93.3}, {36.01, -89.2}, {41.5, -98.0}};
+        for (String prefix : List.of("a1", "cz", "a1x", "a", "c")) {
+            for (double[] caller : callers) {
+                List<double[]> expected = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    if (names[i].startsWith(prefix)) {
+                        boolean wholeWord = names[i].charAt(prefix.length()) == ' ';
+                        double km = approxKm(caller[0], caller[1], latitudes[i], longitudes[i]);
+                        expected.add(new double[]{ids[i], 1.0 + (wholeWord ? 0.1 : 0) + 0.5 * 50 / (50 + km)});
+                    }
+                }
+                expected.sort(Comparator.comparingDouble((double[] match) -> match[1]).reversed());
+                List<PlaceNameTrie.Suggestion> suggestions = large.suggest(prefix, caller[0], caller[1], 10);
+                assertThat(suggestions).hasSize(Math.min(10, expected.size()));
+                for (int i = 0; i < suggestions.size(); i++) {
+                    assertThat(suggestions.get(i).id()).isEqualTo((int) expected.get(i)[0]);
+                    assertThat(suggestions.get(i).score()).isCloseTo(expected.get(i)[1], within(1e-9));
+                }
+            }
+        }
+    }
+
+    @Test
+    void nearbyPlacesSurviveShortPrefixesOfLargeIndexes() {
+        // 2000 better-matching names far away push every prefix of "state" past the scan limit.
+        int count = IDS.length + 2000;
+        int[] ids = Arrays.copyOf(IDS, count);
+        String[] names = Arrays.copyOf(NAMES, count);
+        double[] latitudes = Arrays.copyOf(LATITUDES, count);
+        double[] longitudes = Arrays.copyOf(LONGITUDES, count);
+        for (int i = IDS.length; i < count; i++) {
+            ids[i] = 100 + i;
+            names[i] = "Staten" + i + " Lake";
+            latitudes[i] = i % 7 * 0.1;
+            longitudes[i] = i % 11 * 0.1;
+        }
+        PlaceNameTrie large = PlaceNameTrie.build(ids, names, new String[count], latitudes, longitudes);
+
+        // Standing at Elephant Rocks it still comes first, and scores what it scores on its own,
+        // whole-word bonus included.
+        for (String prefix : List.of("s", "st", "sta", "stat", "state", "state p")) {
+            PlaceNameTrie.Suggestion alone = trie.suggest(prefix, 37.6545, -90.6889, 1).get(0);
+            PlaceNameTrie.Suggestion amongMany = large.suggest(prefix, 37.6545, -90.6889, 1).get(0);
+            assertThat(amongMany.name()).isEqualTo("Elephant Rocks State Park");
+            assertThat(amongMany.score()).isEqualTo(alone.score());
+        }
+    }
+
+    private static double approxKm(double fromLat, double fromLon, double toLat, double toLon) {
+        double x = Math.toRadians(toLon - fromLon) * Math.cos(Math.toRadians(fromLat));
+        double y = Math.toRadians(toLat - fromLat);
+        return Haversine.EARTH_RADIUS_KM * Math.sqrt(x * x + y * y);
+    }
+
+    private static List<String> names(List<PlaceNameTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(PlaceNameTrie.Suggestion::name).toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.liftoff.trail_blazers.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrailheadCsvTests {
+
+    private static final String CSV = """
+            ID,LOC_NAME,X,Y,PARK_TYPE
+            1,"Ha Ha Tonka State Park",520769.7326,4202274.9553,"State Park"
+            3,"Edward "Ted"" and Pat Jones-Confluence Point State Park"",749651.4159,4302386.7475,"State Park"
+            92,California,39.0982752,-94.4221979,"National Historic Trail"
+            4,"Broken row",not-a-number,4202274.9553,"State Park"
+            """;
+
+    @Test
+    void projectsUtmRowsAndPassesGeographicRowsThrough() throws Exception {
+        TrailheadCsv.Batch batch = TrailheadCsv.read(new StringReader(CSV));
+
+        assertThat(batch.size()).isEqualTo(3);
+        assertThat(batch.skipped()).isEqualTo(1);
+
+        // Reference coordinates from geolocation_MO_parks.json (NAD83; under a metre from WGS84 here).
+        assertThat(batch.name(0)).isEqualTo("Ha Ha Tonka State Park");
+        assertThat(batch.latitude(0)).isCloseTo(37.96786290349126, within(1e-4));
+        assertThat(batch.longitude(0)).isCloseTo(-92.76354566426453, within(1e-4));
+
+        assertThat(batch.name(1)).isEqualTo("Edward \"Ted\" and Pat Jones-Confluence Point State Park");
+        assertThat(batch.latitude(1)).isCloseTo(38.83490797600394, within(1e-4));
+        assertThat(batch.longitude(1)).isCloseTo(-90.12385407093906, within(1e-4));
+
+        assertThat(batch.name(2)).isEqualTo("California");
+        assertThat(batch.parkType(2)).isEqualTo("National Historic Trail");
+        assertThat(batch.latitude(2)).isEqualTo(39.0982752);
+        assertThat(batch.longitude(2)).isEqualTo(-94.4221979);
+    }
+}
@@ -0,0 +1,164 @@
+package com.liftoff.trail_blazers.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorTileEncoderTests {
+
+    @Test
+    void tileDecodesBackToTheLayerItWasBuiltFrom() {
+        Map<String, Object> tonka = new LinkedHashMap<>();
+        tonka.put("LOC_NAME", "Ha Ha Tonka State Park");
+        tonka.put("PARK_ID", 42);
+        tonka.put("URL", null);
+        tonka.put("GIS_ACRES", 3710.5);
+        tonka.put("OPEN", true);
+        Map<String, Object> other = new LinkedHashMap<>();
+        other.put("LOC_NAME", "Onondaga Cave State Park");
+        other.put("PARK_ID", 42);
+
+        VectorTileEncoder encoder = new VectorTileEncoder("parks");
+        encoder.addPoint(7, 10, 4095, tonka);
+        encoder.addPoint(300, -5, -64, other);
+
+        List<Object> layers = fields(encoder.encode()).get(3);
+        assertThat(layers).hasSize(1);
+        Map<Integer, List<Object>> layer = fields((byte[]) layers.get(0));
+        assertThat(layer.get(15)).containsExactly(2L);
+        assertThat(string(layer.get(1).get(0))).isEqualTo("parks");
+        assertThat(layer.get(5)).containsExactly((long) VectorTileEncoder.EXTENT);
+
+        List<String> keys = layer.get(3).stream().map(VectorTileEncoderTests::string).toList();
+        assertThat(keys).containsExactly("LOC_NAME", "PARK_ID", "GIS_ACRES", "OPEN");
+        List<Object> values = layer.get(4).stream().map(value -> value((byte[]) value)).toList();
+        assertThat(values).hasSize(5);
+
+        List<Object> features = layer.get(2);
+        assertThat(features).hasSize(2);
+
+        Map<Integer, List<Object>> first = fields((byte[]) features.get(0));
+        assertThat(first.get(1)).containsExactly(7L);
+        assertThat(first.get(3)).containsExactly(1L);
+        assertThat(point((byte[]) first.get(4).get(0))).containsExactly(10L, 4095L);
+        Map<String, Object> firstAttributes = attributes((byte[]) first.get(2).get(0), keys, values);
+        assertThat(firstAttributes).containsOnlyKeys("LOC_NAME", "PARK_ID", "GIS_ACRES", "OPEN");
+        assertThat(firstAttributes.get("LOC_NAME")).isEqualTo("Ha Ha Tonka State Park");
+        assertThat(firstAttributes.get("PARK_ID")).isEqualTo(42L);
+        assertThat((double) firstAttributes.get("GIS_ACRES")).isCloseTo(3710.5, within(0.0));
+        assertThat(firstAttributes.get("OPEN")).isEqualTo(true);
+
+        Map<Integer, List<Object>> second = fields((byte[]) features.get(1));
+        assertThat(second.get(1)).containsExactly(300L);
+        assertThat(point((byte[]) second.get(4).get(0))).containsExactly(-5L, -64L);
+        assertThat(attributes((byte[]) second.get(2).get(0), keys, values))
+                .containsEntry("LOC_NAME", "Onondaga Cave State Park")
+                .containsEntry("PARK_ID", 42L);
+    }
+
+    @Test
+    void webMercatorSpansTheUnitSquare() {
+        assertThat(WebMercator.x(-180)).isEqualTo(0.0);
+        assertThat(WebMercator.x(0)).isEqualTo(0.5);
+        assertThat(WebMercator.x(180)).isEqualTo(1.0);
+        assertThat(WebMercator.y(0)).isCloseTo(0.5, within(1e-12));
+        assertThat(WebMercator.y(85.0511287798)).isCloseTo(0.0, within(1e-9));
+        assertThat(WebMercator.y(-90)).isCloseTo(1.0, within(1e-9));
+    }
+
+    // Protobuf reader for the subset the encoder writes: varint, fixed64 and length-delimited fields.
+    private static Map<Integer, List<Object>> fields(byte[] message) {
+        Map<Integer, List<Object>> fields = new LinkedHashMap<>();
+        int[] pos = {0};
+        while (pos[0] < message.length) {
+            long tag = varint(message, pos);
+            Object value = switch ((int) (tag & 0x7)) {
+                case 0 -> varint(message, pos);
+                case 1 -> {
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits |= (message[pos[0]++] & 0xFFL) << (8 * i);
+                    }
+                    yield bits;
+                }
+                case 2 -> {
+                    int length = (int) varint(message, pos);
+                    byte[] bytes = new byte[length];
+                    System.arraycopy(message, pos[0], bytes, 0, length);
+                    pos[0] += length;
+                    yield bytes;
+                }
+                default -> throw new AssertionError("Unexpected wire type in tag " + tag);
+            };
+            fields.computeIfAbsent((int) (tag >>> 3), field -> new ArrayList<>()).add(value);
+        }
+        return fields;
+    }
+
+    private static List<Long> packed(byte[] bytes) {
+        List<Long> values = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < bytes.length) {
+            values.add(varint(bytes, pos));
+        }
+        return values;
+    }
+
+    private static long varint(byte[] bytes, int[] pos) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // A point geometry is a single MoveTo command (id 1, count 1) followed by one zigzag x/y pair.
+    private static List<Long> point(byte[] geometry) {
+        List<Long> commands = packed(geometry);
+        assertThat(commands).hasSize(3);
+        assertThat(commands.get(0) & 0x7).isEqualTo(1L);
+        assertThat(commands.get(0) >>> 3).isEqualTo(1L);
+        return List.of(unZigZag(commands.get(1)), unZigZag(commands.get(2)));
+    }
+
+    private static Map<String, Object> attributes(byte[] tags, List<String> keys, List<Object> values) {
+        List<Long> indexes = packed(tags);
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < indexes.size(); i += 2) {
+            attributes.put(keys.get(indexes.get(i).intValue()), values.get(indexes.get(i + 1).intValue()));
+        }
+        return attributes;
+    }
+
+    private static Object value(byte[] message) {
+        Map<Integer, List<Object>> value = fields(message);
+        assertThat(value).hasSize(1);
+        Map.Entry<Integer, List<Object>> field = value.entrySet().iterator().next();
+        Object raw = field.getValue().get(0);
+        return switch (field.getKey()) {
+            case 1 -> string(raw);
+            case 3 -> Double.longBitsToDouble((Long) raw);
+            case 6 -> unZigZag((Long) raw);
+            case 7 -> (Long) raw != 0;
+            default -> throw new AssertionError("Unexpected value field " + field.getKey());
+        };
+    }
+
+    private static String string(Object bytes) {
+        return new String((byte[]) bytes, StandardCharsets.UTF_8);
+    }
+}
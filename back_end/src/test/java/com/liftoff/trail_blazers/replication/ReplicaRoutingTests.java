@@ -0,0 +1,139 @@
+package com.liftoff.trail_blazers.replication;
+
+import com.liftoff.trail_blazers.data.FaunaRepository;
+import com.liftoff.trail_blazers.data.GeolocationsRepository;
+import com.liftoff.trail_blazers.model.Fauna;
+import com.liftoff.trail_blazers.model.Geolocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two embedded H2 databases stand in for a primary and its replica. H2 does not replicate, so
+ * {@link #replicate()} copies a full SCRIPT snapshot across, heartbeat row included, the way a
+ * replica would catch up.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replication_primary;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "db.replicas.enabled=true",
+        "db.replicas.max-lag-ms=5000",
+        "db.replicas.heartbeat-interval-ms=3600000",
+        "db.replicas.replicas[0].name=r1",
+        "db.replicas.replicas[0].url=jdbc:h2:mem:replication_replica;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "db.replicas.replicas[0].username=sa",
+        "data.seed.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ReadWriteRoutingDataSource routing;
+    @Autowired
+    private ReplicaLagMonitor monitor;
+    @Autowired
+    private FaunaRepository faunaRepository;
+    @Autowired
+    private GeolocationsRepository geolocationsRepository;
+
+    private int faunaId;
+
+    @BeforeEach
+    void seedPrimaryAndCatchUp() {
+        Fauna fauna = new Fauna();
+        fauna.setCommonName("Eastern Collared Lizard");
+        faunaId = faunaRepository.save(fauna).getId();
+        // Trips must name a park.
+        if (geolocationsRepository.findFirstByNameOrderByIdAsc("Ha Ha Tonka State Park").isEmpty()) {
+            Geolocations park = new Geolocations();
+            park.setName("Ha Ha Tonka State Park");
+            park.setLatitude(37.9679);
+            park.setLongitude(-92.7635);
+            geolocationsRepository.save(park);
+        }
+        replicate();
+        monitor.beat();
+    }
+
+    @Test
+    void readOnlyTransactionsUseACaughtUpReplica() {
+        replica().update("update fauna set common_name = 'replica copy' where id = ?", faunaId);
+
+        assertThat(faunaRepository.findById(faunaId)).get()
+                .extracting(Fauna::getCommonName).isEqualTo("replica copy");
+    }
+
+    @Test
+    void laggingReplicaFailsOverToThePrimary() {
+        replica().update("update fauna set common_name = 'replica copy' where id = ?", faunaId);
+        replica().update("update replication_heartbeat set beat = ?", System.currentTimeMillis() - 60_000);
+        monitor.beat();
+
+        assertThat(faunaRepository.findById(faunaId)).get()
+                .extracting(Fauna::getCommonName).isEqualTo("Eastern Collared Lizard");
+    }
+
+    @Test
+    void unreachableReplicaFailsOverToThePrimary() {
+        replica().execute("drop table replication_heartbeat");
+        monitor.beat();
+
+        assertThat(routing.pickReplica(0)).isNull();
+        assertThat(faunaRepository.findById(faunaId)).isPresent();
+    }
+
+    @Test
+    void userReadsTheirOwnWriteBeforeTheReplicaHasIt() throws Exception {
+        String userName = "replica-hiker";
+        mockMvc.perform(post("/trips/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"tripName":"Fresh trip","location":"Ha Ha Tonka State Park","date":"2025-06-01",
+                                 "notes":"","plants":[],"fauna":[{"id":%d}],"userName":"%s"}
+                                """.formatted(faunaId, userName)))
+                .andExpect(status().isOk());
+
+        // The replica has not applied the write yet, so the writer is served from the primary...
+        mockMvc.perform(get("/trips/all/" + userName).param("view", "slim"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].tripName").value("Fresh trip"));
+        // ...while other users keep reading the replica.
+        assertThat(routing.pickReplica(0)).isEqualTo("r1");
+
+        // Once a heartbeat written after the commit reaches the replica, the writer moves back to it.
+        // Heartbeats are millisecond timestamps; step past the commit's millisecond first.
+        Thread.sleep(5);
+        monitor.beat();
+        replicate();
+        monitor.beat();
+        replica().update("update trips set trip_name = 'replica copy' where user_name = ?", userName);
+        mockMvc.perform(get("/trips/all/" + userName).param("view", "slim"))
+                .andExpect(jsonPath("$[0].tripName").value("replica copy"));
+    }
+
+    private void replicate() {
+        JdbcTemplate primary = new JdbcTemplate(routing.primary());
+        JdbcTemplate replica = replica();
+        replica.execute("drop all objects");
+        for (String statement : primary.queryForList("script", String.class)) {
+            replica.execute(statement);
+        }
+    }
+
+    private JdbcTemplate replica() {
+        return new JdbcTemplate(routing.replica("r1"));
+    }
+}
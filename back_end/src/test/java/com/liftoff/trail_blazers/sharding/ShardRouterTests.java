@@ -0,0 +1,52 @@
+package com.liftoff.trail_blazers.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRouterTests {
+
+    private static final int USERS = 20_000;
+
+    @Test
+    void spreadsUsersEvenly() {
+        ShardRouter router = new ShardRouter(List.of("a", "b", "c", "d"), 160);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int user = 0; user < USERS; user++) {
+            counts.merge(router.shardFor("user-" + user), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys("a", "b", "c", "d");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(USERS / 4 * 8 / 10, USERS / 4 * 12 / 10));
+    }
+
+    @Test
+    void addingAShardOnlyMovesUsersOntoIt() {
+        ShardRouter before = new ShardRouter(List.of("a", "b", "c"), 160);
+        ShardRouter after = new ShardRouter(List.of("a", "b", "c", "d"), 160);
+
+        int moved = 0;
+        for (int user = 0; user < USERS; user++) {
+            String userName = "user-" + user;
+            String owner = after.shardFor(userName);
+            if (!owner.equals(before.shardFor(userName))) {
+                assertThat(owner).isEqualTo("d");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(USERS / 4 * 8 / 10, USERS / 4 * 12 / 10);
+    }
+
+    @Test
+    void routingIsStableAcrossInstances() {
+        ShardRouter first = new ShardRouter(List.of("a", "b"), 160);
+        ShardRouter second = new ShardRouter(List.of("a", "b"), 160);
+        for (int user = 0; user < 1000; user++) {
+            assertThat(second.shardFor("user-" + user)).isEqualTo(first.shardFor("user-" + user));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.liftoff.trail_blazers.sharding;
+
+import com.liftoff.trail_blazers.data.PlantsRepository;
+import com.liftoff.trail_blazers.data.TripsRepository;
+import com.liftoff.trail_blazers.model.Plants;
+import com.liftoff.trail_blazers.model.Trips;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "trips.sharding.enabled=true",
+        "trips.sharding.shards[0].name=a",
+        "trips.sharding.shards[0].url=jdbc:h2:mem:shard_a;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "trips.sharding.shards[0].username=sa",
+        "trips.sharding.shards[1].name=b",
+        "trips.sharding.shards[1].url=jdbc:h2:mem:shard_b;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "trips.sharding.shards[1].username=sa",
+        "trips.sharding.shards[2].name=c",
+        "trips.sharding.shards[2].url=jdbc:h2:mem:shard_c;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+        "trips.sharding.shards[2].username=sa",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class ShardingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ShardRouter shardRouter;
+    @Autowired
+    private ShardRoutingDataSource dataSource;
+    @Autowired
+    private TripShards tripShards;
+    @Autowired
+    private CatalogReplicator catalogReplicator;
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+    @Autowired
+    private PlantsRepository plantsRepository;
+    @Autowired
+    private TripsRepository tripsRepository;
+
+    private int plantId;
+
+    @BeforeEach
+    void addCatalogRow() {
+        // Catalog writes go to the default shard; replication copies them everywhere else.
+        Plants plant = new Plants();
+        plant.setScientificName("Quercus alba");
+        plantId = plantsRepository.save(plant).getId();
+        catalogReplicator.replicate();
+    }
+
+    @Test
+    void catalogIsReplicatedToEveryShard() {
+        for (String table : CatalogReplicator.CATALOG_TABLES) {
+            Set<Long> counts = new HashSet<>();
+            for (String shard : shardRouter.shards()) {
+                counts.add(jdbc(shard).queryForObject("select count(*) from " + table, Long.class));
+            }
+            assertThat(counts).as(table).hasSize(1);
+        }
+        for (String shard : shardRouter.shards()) {
+            assertThat(jdbc(shard).queryForObject("select count(*) from plants where id = ?", Long.class, plantId))
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void catalogChangesAndRemovalsReachEveryShard() {
+        Plants removed = new Plants();
+        removed.setScientificName("Quercus velutina");
+        int removedId = plantsRepository.save(removed).getId();
+        catalogReplicator.replicate();
+
+        Plants changed = plantsRepository.findById(plantId).orElseThrow();
+        changed.setScientificName("Quercus rubra");
+        plantsRepository.save(changed);
+        plantsRepository.deleteById(removedId);
+        catalogReplicator.replicate();
+
+        for (String shard : shardRouter.shards()) {
+            assertThat(jdbc(shard).queryForObject("select scientific_name from plants where id = ?", String.class, plantId))
+                    .as(shard).isEqualTo("Quercus rubra");
+            assertThat(jdbc(shard).queryForObject("select count(*) from plants where id = ?", Long.class, removedId))
+                    .as(shard).isZero();
+        }
+        assertThat(catalogReplicator.replicate()).isZero();
+    }
+
+    @Test
+    void tripsAndJoinRowsLiveOnTheOwnersShard() throws Exception {
+        Set<String> usedShards = new HashSet<>();
+        for (int user = 0; user < 12; user++) {
+            String userName = "hiker-" + user;
+            addTrip(userName);
+
+            String owner = shardRouter.shardFor(userName);
+            usedShards.add(owner);
+            for (String shard : shardRouter.shards()) {
+                long expected = shard.equals(owner) ? 1 : 0;
+                assertThat(countTrips(shard, userName)).as(userName + " on " + shard).isEqualTo(expected);
+                assertThat(jdbc(shard).queryForObject(
+                        "select count(*) from trips_plants tp join trips t on t.id = tp.trips_id where t.user_name = ?",
+                        Long.class, userName)).isEqualTo(expected);
+            }
+
+            mockMvc.perform(get("/trips/all/" + userName).param("view", "slim"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].plantIds[0]").value(plantId));
+            mockMvc.perform(get("/trips/all/" + userName))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].plants[0].id").value(plantId));
+        }
+        assertThat(usedShards).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void updatesAndDeletesNeedTheOwner() throws Exception {
+        String userName = "hiker-delete";
+        addTrip(userName);
+        int tripId = tripShards.read(userName, () -> tripsRepository.findByUserName(userName).get(0).getId());
+
+        mockMvc.perform(delete("/trips/delete/" + tripId)).andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/trips/delete/" + tripId).param("userName", userName)).andExpect(status().isOk());
+
+        assertThat(countTrips(shardRouter.shardFor(userName), userName)).isZero();
+        mockMvc.perform(get("/trips/changes/" + userName).param("since", "1"))
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.deletes[0]").value(tripId));
+    }
+
+    @Test
+    void rebalancerMovesUsersOffShardsTheyNoLongerHashTo() throws Exception {
+        String userName = "hiker-misplaced";
+        String owner = shardRouter.shardFor(userName);
+        String stale = shardRouter.shards().stream().filter(shard -> !shard.equals(owner)).findFirst().orElseThrow();
+
+        // As if the trip was written before the owner shard joined the ring.
+        tripShards.inShard(stale, false, () -> tripsRepository.save(new Trips("Old trip", "Ha Ha Tonka State Park",
+                new Date(), "before rebalance", new ArrayList<>(List.of(plantsRepository.getReferenceById(plantId))),
+                new ArrayList<>(), userName)));
+
+        assertThat(shardRebalancer.rebalance()).isEqualTo(1);
+
+        assertThat(countTrips(stale, userName)).isZero();
+        assertThat(countTrips(owner, userName)).isEqualTo(1);
+        mockMvc.perform(get("/trips/all/" + userName).param("view", "slim"))
+                .andExpect(jsonPath("$[0].tripName").value("Old trip"))
+                .andExpect(jsonPath("$[0].plantIds[0]").value(plantId));
+        // Trip ids changed in the move, so any earlier token gets a full reset.
+        mockMvc.perform(get("/trips/changes/" + userName).param("since", "0"))
+                .andExpect(jsonPath("$.reset").value(true))
+                .andExpect(jsonPath("$.upserts.length()").value(1));
+
+        assertThat(shardRebalancer.rebalance()).isZero();
+    }
+
+    @Test
+    void rebalancerFinishesAMoveThatStoppedAfterTheCopy() {
+        String userName = "hiker-interrupted";
+        String owner = shardRouter.shardFor(userName);
+        String stale = shardRouter.shards().stream().filter(shard -> !shard.equals(owner)).findFirst().orElseThrow();
+        shardRebalancer.rebalance();
+
+        // The state a run leaves when it dies between copying to the owner and deleting from the old shard.
+        for (String shard : List.of(stale, owner)) {
+            tripShards.inShard(shard, false, () -> tripsRepository.save(new Trips("Old trip", "Ha Ha Tonka State Park",
+                    new Date(), "mid-move", new ArrayList<>(), new ArrayList<>(), userName)));
+            jdbc(shard).update("insert into " + ShardRebalancer.MOVE_TABLE
+                    + " (move_id, user_name, from_shard, to_shard) values ('interrupted', ?, ?, ?)", userName, stale, owner);
+        }
+
+        assertThat(shardRebalancer.rebalance()).isEqualTo(1);
+
+        assertThat(countTrips(stale, userName)).isZero();
+        assertThat(countTrips(owner, userName)).isEqualTo(1);
+        for (String shard : List.of(stale, owner)) {
+            assertThat(jdbc(shard).queryForObject("select count(*) from " + ShardRebalancer.MOVE_TABLE, Long.class))
+                    .as(shard).isZero();
+        }
+        assertThat(shardRebalancer.rebalance()).isZero();
+    }
+
+    private void addTrip(String userName) throws Exception {
+        mockMvc.perform(post("/trips/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"tripName":"Trip","location":"Ha Ha Tonka State Park","date":"2025-06-01",
+                                 "notes":"","plants":[{"id":%d}],"fauna":[],"userName":"%s"}
+                                """.formatted(plantId, userName)))
+                .andExpect(status().isOk());
+    }
+
+    private long countTrips(String shard, String userName) {
+        return jdbc(shard).queryForObject("select count(*) from trips where user_name = ?", Long.class, userName);
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(dataSource.shard(shard));
+    }
+}
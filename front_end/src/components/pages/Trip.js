@@ -6,6 +6,8 @@ import HikeForm from './trip/HikeForm';
 const Trip = () => {
   const [hikes, setHikes] = useState([]);
   const [selectedHike, setSelectedHike] = useState(null);
+  // Bumped after the server accepts an add or edit so HikeList syncs the change
+  const [savedTrips, setSavedTrips] = useState(0);
 
   useEffect(() => {
     // Load hikes from local storage on mount
@@ -41,10 +43,14 @@ const Trip = () => {
     setSelectedHike(hike);
   };
 
+  const handleTripSaved = () => {
+    setSavedTrips((count) => count + 1);
+  };
+
   return (
     <div className='page-container'>
-      <HikeForm onSubmit={handleAddHike} selectedHike={selectedHike} onEdit={handleEditHike} />
-      <HikeList hikes={hikes} onDelete={handleDeleteHike} onEdit={handleEditClick} />
+      <HikeForm onSubmit={handleAddHike} selectedHike={selectedHike} onEdit={handleEditHike} onSaved={handleTripSaved} />
+      <HikeList hikes={hikes} onDelete={handleDeleteHike} onEdit={handleEditClick} savedTrips={savedTrips} />
     </div>
   );
 };
@@ -1,15 +1,16 @@
 import React, { useState, useEffect } from 'react'; 
-import csvData from '../../../databases/park_locations/MO_State_Park_and_Historic_Sites_Trails.csv';
 import "./historystyles.css";
 import { useAuth0 } from '@auth0/auth0-react';
 
-const HikeForm = ({ onSubmit, selectedHike, onEdit }) => {
+const HikeForm = ({ onSubmit, selectedHike, onEdit, onSaved }) => {
   const [id, setId] = useState("");
   const [tripName, setTripName] = useState("");
   const [location, setLocation] = useState("");
+  const [parkId, setParkId] = useState(null);
   const [date, setDate] = useState("");
   const [notes, setNotes] = useState("");
   const [locations, setLocations] = useState([]);
+  const [position, setPosition] = useState(null);
   const [plants, setPlants] = useState([]);
   const [val, setVal] = useState("");
   const [data, setData] = useState([]);
@@ -27,48 +28,56 @@ const HikeForm = ({ onSubmit, selectedHike, onEdit }) => {
   const updateForm = document.getElementById("update-form");
   const submitForm = document.getElementById("submit-form");   
     
-// *** Fetch and Parse the CSV file *** //
+// *** Suggest Parks As The Location Is Typed *** //
+  // The caller's position (when the browser shares it) ranks nearby parks first.
   useEffect(() => {
-    const fetchData = async () => {
-      try {
-        const response = await fetch(csvData);
-        const textData = await response.text();
-
-        // Parse CSV data without using PapaParse
-        const rows = textData.split("\n");
-        const header = rows[0].split(",");
-        const data = rows
-          .slice(1)
-          .map((row) => {
-            const values = row.split(",");
-            if (values.length === header.length) {
-              return header.reduce((acc, key, index) => {
-                acc[key.trim()] = values[index].trim();
-                return acc;
-              }, {});
-            } else {
-              //console.error('Row with missing values:', row);
-              return null;
-            }
-          })
-          .filter(Boolean); // Filter out rows with missing values
-
-        //console.log('Parsed CSV Data:', data);
-        setLocations(data);
-      } catch (error) {
-        //console.error('Error fetching or parsing CSV:', error);
-      }
-    };
-
-    fetchData(); // Empty dependency array to fetch locations only once on component mount
+    if (navigator.geolocation) {
+      navigator.geolocation.getCurrentPosition(
+        (pos) => setPosition({ lat: pos.coords.latitude, lon: pos.coords.longitude }),
+        () => setPosition(null)
+      );
+    }
   }, []);
 
+  useEffect(() => {
+    if (location.trim() === "") {
+      setLocations([]);
+      return;
+    }
+    const controller = new AbortController();
+    const near = position ? `&lat=${position.lat}&lon=${position.lon}` : "";
+    fetch(`http://localhost:8080/parks/suggest?prefix=${encodeURIComponent(location)}${near}`,
+      { signal: controller.signal })
+      .then((res) => res.json())
+      .then(setLocations)
+      .catch(() => {});
+    return () => controller.abort();
+  }, [location, position]);
+
+  // Picking a suggestion records its park id; typing anything else clears it.
+  const changeLocation = (e) => {
+    const park = locations.find((suggestion) => suggestion.name === e.target.value);
+    setLocation(e.target.value);
+    setParkId(park ? park.id : null);
+  };
+
+  // The server only saves a trip with a park, but an edit may keep the location the trip already has.
+  useEffect(() => {
+    const unchanged = selectedHike && location === selectedHike.location;
+    const message =
+      location === "" || parkId !== null || unchanged ? "" : "Choose a park from the suggestions";
+    for (const input of document.getElementsByName("location")) {
+      input.setCustomValidity(message);
+    }
+  }, [location, parkId, selectedHike]);
+
 // *** Populate Form Fields When SelectedHike Changes *** //
   useEffect(() => {
     if (selectedHike) {
       setId(selectedHike.id || "");
       setTripName(selectedHike.tripName || "");
       setLocation(selectedHike.location || "");
+      setParkId(selectedHike.parkId ?? null);
       setDate(selectedHike.date || "");
       setNotes(selectedHike.notes || "");
       setPlants(selectedHike.plants || "");
@@ -85,6 +94,7 @@ const HikeForm = ({ onSubmit, selectedHike, onEdit }) => {
     const data = {
       "tripName": tripName,
       "location": location,
+      "parkId": parkId,
       "date": date,
       "notes": notes,
       "plants": plants,
@@ -99,17 +109,20 @@ const HikeForm = ({ onSubmit, selectedHike, onEdit }) => {
         "Content-Type": "application/json",
       },
       body: JSON.stringify(data),
+    }).then((response) => {
+      if (response.ok) onSaved();
     });
 
     if (selectedHike) {
-      onEdit({...selectedHike, tripName, location, date, notes, plants, fauna,});
+      onEdit({...selectedHike, tripName, location, parkId, date, notes, plants, fauna,});
     } else {
-      onSubmit({ tripName, location, date, notes, plants, fauna, userName });
+      onSubmit({ tripName, location, parkId, date, notes, plants, fauna, userName });
     }
 
     // Reset form fields
     setTripName("");
     setLocation("");
+    setParkId(null);
     setDate("");
     setNotes("");
     setPlants([]);
@@ -118,15 +131,18 @@ const HikeForm = ({ onSubmit, selectedHike, onEdit }) => {
   };
 
 // *** PUT REQUEST FOR UPDATE FORM *** //
-  function updateTrip() {
+  function updateTrip(e) {
+    e.preventDefault();
     const finalFormEndpointUpdate = "http://localhost:8080/trips/update/" + id;
     const updatedData = {
       tripName: tripName,
       location: location,
+      parkId: parkId,
       date: date,
       notes: notes,
       plants: plants,
       fauna: fauna,
+      userName: userName,
     };
 
     fetch(finalFormEndpointUpdate, {
@@ -138,14 +154,26 @@ const HikeForm = ({ onSubmit, selectedHike, onEdit }) => {
       body: JSON.stringify(updatedData),
     })
       .then((response) => {
-        return response.json();
-      })
-      .then((updatedDate) => {});
+        if (response.ok) onSaved();
+      });
     if (selectedHike) {
-      onEdit({...selectedHike, id, tripName, location, date, notes, plants, fauna });
+      onEdit({...selectedHike, id, tripName, location, parkId, date, notes, plants, fauna });
     } else {
-      onSubmit({ id, tripName, location, date, notes, plants, fauna });
+      onSubmit({ id, tripName, location, parkId, date, notes, plants, fauna });
     }
+    clearForm();
+  }
+
+  function clearForm() {
+    setTripName("");
+    setLocation("");
+    setParkId(null);
+    setDate("");
+    setNotes("");
+    setPlants([]);
+    setFauna([]);
+    document.getElementById("submit-form").style.display = "block";
+    document.getElementById("update-form").style.display = "none";
   }
 
 // **************** PLANTS DISPLAY **************** //
@@ -475,22 +503,24 @@ function deleteCheckmarks(){
               </label>
               <label>
                 Location:
-                <select
+                <input
                   className="display-block select-style"
+                  type="text"
                   name="location"
+                  list="park-suggestions"
+                  placeholder="Start typing a park"
+                  autoComplete="off"
                   value={location}
-                  onChange={(e) => setLocation(e.target.value)}
+                  onChange={changeLocation}
                   required
-                >
-                  <option value="" disabled>
-                    Select a location
-                  </option>
-                  {locations.map((loc) => (
-                    <option key={loc.ID} value={loc.LOC_NAME}>
-                      {loc.LOC_NAME}
+                />
+                <datalist id="park-suggestions">
+                  {locations.map((park) => (
+                    <option key={park.id} value={park.name}>
+                      {park.shortName}
                     </option>
                   ))}
-                </select>
+                </datalist>
               </label>
               <label className="display-block">
                 Date:
@@ -627,22 +657,24 @@ function deleteCheckmarks(){
               </label>
               <label>
                 Location:
-                <select
+                <input
                   className="display-block select-style"
+                  type="text"
                   name="location"
+                  list="update-park-suggestions"
+                  placeholder="Start typing a park"
+                  autoComplete="off"
                   value={location}
-                  onChange={(e) => setLocation(e.target.value)}
+                  onChange={changeLocation}
                   required
-                >
-                  <option value="" disabled>
-                    Select a location
-                  </option>
-                  {locations.map((loc) => (
-                    <option key={loc.ID} value={loc.LOC_NAME}>
-                      {loc.LOC_NAME}
+                />
+                <datalist id="update-park-suggestions">
+                  {locations.map((park) => (
+                    <option key={park.id} value={park.name}>
+                      {park.shortName}
                     </option>
                   ))}
-                </select>
+                </datalist>
               </label>
               <label className="display-block">
                 Date:
@@ -668,17 +700,7 @@ function deleteCheckmarks(){
               </button>
               <button
                 type="button"
-                onClick={() => {
-                  setTripName("");
-                  setLocation("");
-                  setDate("");
-                  setNotes("");
-                  setPlants([]);
-                  setFauna([]);
-                  document.getElementById("submit-form").style.display =
-                    "block";
-                  document.getElementById("update-form").style.display = "none";
-                }}
+                onClick={clearForm}
               >
                 Clear Form
               </button>
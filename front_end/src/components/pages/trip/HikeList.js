@@ -4,24 +4,76 @@ import React, { useEffect, useState } from 'react';
 import { useAuth0 } from '@auth0/auth0-react';
 import './historystyles.css';
 
-const HikeList = ({ hikes, onEdit }) => {
+const HikeList = ({ hikes, onEdit, savedTrips }) => {
   const [data, setData] = useState([]);
+  const [syncToken, setSyncToken] = useState(null);
   const { user} = useAuth0();
   
   // const navigate = useNavigate();
-  const urlTrips = `http://localhost:8080/trips/all/${user.name}`;
+  const urlTrips = `http://localhost:8080/trips/all/${user.name}?view=slim`;
 
-  // Fetching trail_blazer trips database
+  // Looks up each distinct species id once instead of receiving it embedded in every trip
+  const fetchByIds = async (url, ids) => {
+    if (ids.length === 0) {
+      return new Map();
+    }
+    const res = await fetch(`${url}?ids=${ids.join(",")}`);
+    const rows = await res.json();
+    return new Map(rows.map((row) => [row.id, row]));
+  };
+
+  // Fetching trail_blazer trips database (slim view) and hydrating plants/fauna client-side
   const fetchInfo = async () => {
-    await fetch(urlTrips)
-      .then((res) => res.json())
-      .then((d) => setData(d));
+    const res = await fetch(urlTrips);
+    setSyncToken(res.headers.get("X-Trips-Sync-Token"));
+    const trips = await res.json();
+    const plantIds = [...new Set(trips.flatMap((trip) => trip.plantIds))];
+    const faunaIds = [...new Set(trips.flatMap((trip) => trip.faunaIds))];
+    const [plantsById, faunaById] = await Promise.all([
+      fetchByIds("http://localhost:8080/plants", plantIds),
+      fetchByIds("http://localhost:8080/animals", faunaIds),
+    ]);
+    setData(
+      trips.map(({ plantIds, faunaIds, ...trip }) => ({
+        ...trip,
+        plants: plantIds.map((id) => plantsById.get(id)).filter(Boolean),
+        fauna: faunaIds.map((id) => faunaById.get(id)).filter(Boolean),
+      }))
+    );
+  };
+
+  // Applies only the trips changed since the last sync instead of re-fetching the whole list
+  const syncChanges = async () => {
+    const since = syncToken === null ? "" : `?since=${syncToken}`;
+    const changes = await fetch(
+      `http://localhost:8080/trips/changes/${user.name}${since}`
+    ).then((res) => res.json());
+    setSyncToken(changes.token);
+    setData((current) => {
+      if (changes.reset) {
+        return changes.upserts;
+      }
+      const changedIds = new Set([
+        ...changes.deletes,
+        ...changes.upserts.map((trip) => trip.id),
+      ]);
+      return [
+        ...current.filter((trip) => !changedIds.has(trip.id)),
+        ...changes.upserts,
+      ];
+    });
   };
 
   useEffect(() => {
     fetchInfo();
   }, []);
 
+  useEffect(() => {
+    if (savedTrips > 0) {
+      syncChanges();
+    }
+  }, [savedTrips]);
+
   const reverseOrder = data.sort((a, b) => (a.id < b.id ? 1 : -1));
 
   return (
@@ -71,7 +123,8 @@ const HikeList = ({ hikes, onEdit }) => {
             <button
               onClick={() => {
                 const urlDelete =
-                  "http://localhost:8080/trips/delete/" + trip.id;
+                  "http://localhost:8080/trips/delete/" + trip.id +
+                  "?userName=" + encodeURIComponent(user.name);
                 let text = "Are you sure you want to delete this trip?";
                 // eslint-disable-next-line no-restricted-globals
                 if (confirm(text) === true) {
@@ -80,7 +133,7 @@ const HikeList = ({ hikes, onEdit }) => {
                       if (!response.ok) {
                         throw new Error("Something went wrong");
                       }
-                      window.location.reload(false);
+                      return syncChanges();
                     })
                     .catch((e) => {
                       console.log(e);